@@ -0,0 +1,56 @@
+package com.sparrows.geometry.benchmarks;
+
+import com.sparrows.geometry.exception.GeometryException;
+import com.sparrows.geometry.geometry3.Point3;
+import com.sparrows.geometry.geometry3.PointSymmetryGroup3;
+import com.sparrows.geometry.geometry3.Polygon3;
+import com.sparrows.geometry.geometry3.Polyhedron;
+import com.sparrows.geometry.transformation.d3.AffineTransformation3;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Topology and symmetry benchmarks over a set of solids, chosen by the subclasses.</p>
+ * <p>A polyhedron caches its topology and symmetries, so each invocation builds a new one from the faces
+ * of the solid; building it only copies the list reference.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class PolyhedronBenchmark {
+    private List<Polygon3> faces;
+
+    protected abstract Polyhedron solid();
+
+    @Setup
+    public void setUp() {
+        faces = solid().getFaces();
+    }
+
+    @Benchmark
+    public List<Point3> findVertices() {
+        return new Polyhedron(faces).vertices();
+    }
+
+    @Benchmark
+    public List<AffineTransformation3> symmetries() {
+        return new Polyhedron(faces).symmetries();
+    }
+
+    @Benchmark
+    public PointSymmetryGroup3 pointSymmetryGroup() throws GeometryException {
+        return new PointSymmetryGroup3(new Polyhedron(faces));
+    }
+}
@@ -0,0 +1,24 @@
+package com.sparrows.geometry.benchmarks;
+
+import com.sparrows.geometry.geometry3.Polyhedron;
+import com.sparrows.geometry.geometry3.StandardPolyhedra;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class StandardPolyhedraBenchmark extends PolyhedronBenchmark {
+    @Param({"tetrahedron", "cube", "octahedron", "dodecahedron", "icosahedron",
+            "smallStellatedDodecahedron", "greatStellatedDodecahedron", "greatDodecahedron", "greatIcosahedron"})
+    public String solid;
+
+    @Override
+    protected Polyhedron solid() {
+        try {
+            return (Polyhedron) StandardPolyhedra.class.getMethod(solid).invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("No standard polyhedron called " + solid, e);
+        }
+    }
+}
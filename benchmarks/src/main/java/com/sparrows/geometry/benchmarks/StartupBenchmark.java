@@ -0,0 +1,67 @@
+package com.sparrows.geometry.benchmarks;
+
+import com.sparrows.geometry.exception.CoplanarPoints;
+import com.sparrows.geometry.geometry2.Polygon2;
+import com.sparrows.geometry.geometry3.Point3;
+import com.sparrows.geometry.geometry3.Polygon3;
+import com.sparrows.geometry.geometry3.Polyhedron;
+import com.sparrows.geometry.geometry3.StandardPolyhedra;
+import com.sparrows.geometry.spherical.SchwarzTriangle;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>The cost of the first use of a class in a new JVM, including loading and initialising the classes it
+ * needs, as a short-lived process would pay it.</p>
+ * <p>Each measurement is a single call in a fresh fork, so run enough forks for a useful average. Touching
+ * {@link Point3}, or building a polyhedron with {@link StandardPolyhedra}, shouldn't build any of the standard
+ * polygons or solids, and asking for one standard solid shouldn't build the others.</p>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class StartupBenchmark {
+
+    @Benchmark
+    public Point3 point3() {
+        return new Point3(1, 2, 3);
+    }
+
+    // only uses the class, not its constants
+    @Benchmark
+    public Polyhedron tetrahedron() throws CoplanarPoints {
+        return StandardPolyhedra.tetrahedron(new Point3(0, 0, 0), new Point3(1, 0, 0), new Point3(0, 1, 0),
+                new Point3(0, 0, 1));
+    }
+
+    @Benchmark
+    public Polygon3 pentagon3() {
+        return Polygon3.pentagon();
+    }
+
+    @Benchmark
+    public Polygon2 pentagon2() {
+        return Polygon2.pentagon();
+    }
+
+    @Benchmark
+    public Polyhedron cube() {
+        return StandardPolyhedra.cube();
+    }
+
+    @Benchmark
+    public List<SchwarzTriangle> schwarzTriangles() {
+        return SchwarzTriangle.getAll();
+    }
+}
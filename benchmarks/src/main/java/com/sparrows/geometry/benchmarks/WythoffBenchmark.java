@@ -0,0 +1,57 @@
+package com.sparrows.geometry.benchmarks;
+
+import com.sparrows.geometry.WythoffSymbol;
+import com.sparrows.geometry.exception.GeometryException;
+import com.sparrows.geometry.spherical.SchwarzTriangle;
+import com.sparrows.geometry.spherical.SphericalPolyhedron;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Construction of uniform polyhedra from every Schwarz triangle and every type of Wythoff symbol.</p>
+ * <p>The triangle is an index into {@link SchwarzTriangle#getAll()}. Not every combination gives a valid
+ * polyhedron, and JMH reports those that fail and carries on with the rest.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WythoffBenchmark {
+    @Param({"0", "1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15",
+            "16", "17", "18", "19", "20", "21", "22", "23", "24", "25", "26", "27", "28", "29", "30", "31",
+            "32", "33", "34", "35", "36", "37", "38", "39", "40", "41", "42", "43"})
+    public int triangle;
+
+    @Param({"ONE", "TWO", "THREE", "SNUB"})
+    public WythoffSymbol.Type type;
+
+    private WythoffSymbol symbol;
+
+    @Setup
+    public void setUp() {
+        var all = SchwarzTriangle.getAll();
+        if (triangle >= all.size()) {
+            throw new IllegalArgumentException("There are only " + all.size() + " Schwarz triangles.");
+        }
+        symbol = new WythoffSymbol(all.get(triangle), type);
+    }
+
+    @Benchmark
+    public SphericalPolyhedron uniformPolyhedron() throws GeometryException {
+        return symbol.uniformPolyhedron();
+    }
+}
@@ -0,0 +1,135 @@
+package com.sparrows.geometry;
+
+import com.sparrows.geometry.exception.GeometryException;
+import com.sparrows.geometry.spherical.SphericalPolygon;
+import com.sparrows.geometry.spherical.SphericalPolyhedron;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>A bounded cache of uniform polyhedra, keyed by canonical Wythoff symbol.</p>
+ * <p>Symbols that differ only by an allowed permutation of p, q and r share an entry (see
+ * {@link WythoffSymbol#canonical()}). Each polyhedron is built once, by the first thread to ask for it, while
+ * other threads asking for the same symbol wait for that result rather than building it again. The least
+ * recently used entry is dropped when the cache is full.</p>
+ * <p>The polyhedra returned are shared, so their face and vertex lists are unmodifiable.</p>
+ */
+public final class UniformPolyhedronRegistry {
+    public static final int DEFAULT_CAPACITY = 128;
+    private static final UniformPolyhedronRegistry shared = new UniformPolyhedronRegistry(DEFAULT_CAPACITY);
+
+    private final int capacity;
+    private final Map<WythoffSymbol, FutureTask<SphericalPolyhedron>> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public UniformPolyhedronRegistry(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity must be positive.");
+        }
+        this.capacity = capacity;
+        entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<WythoffSymbol, FutureTask<SphericalPolyhedron>> eldest) {
+                if (size() > UniformPolyhedronRegistry.this.capacity) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * @return The registry shared by the whole application.
+     */
+    public static UniformPolyhedronRegistry shared() {
+        return shared;
+    }
+
+    /**
+     * @return The uniform polyhedron of the symbol, as {@link WythoffSymbol#uniformPolyhedron()} would build it
+     * for the canonical symbol.
+     */
+    public SphericalPolyhedron get(WythoffSymbol symbol) throws GeometryException {
+        var key = symbol.canonical();
+        FutureTask<SphericalPolyhedron> task;
+        var build = false;
+        synchronized (entries) {
+            task = entries.get(key);
+            if (task == null) {
+                task = new FutureTask<>(() -> immutableCopy(key.uniformPolyhedron()));
+                entries.put(key, task);
+                build = true;
+            }
+        }
+        if (build) {
+            misses.increment();
+            task.run();
+        } else {
+            hits.increment();
+        }
+
+        try {
+            return task.get();
+        } catch (ExecutionException e) {
+            // don't keep failures, so a later request tries again
+            synchronized (entries) {
+                entries.remove(key, task);
+            }
+            if (e.getCause() instanceof GeometryException) {
+                throw (GeometryException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for " + key, e);
+        }
+    }
+
+    private static SphericalPolyhedron immutableCopy(SphericalPolyhedron h) throws GeometryException {
+        if (h == null) {
+            return null;
+        }
+        List<SphericalPolygon> faces = new ArrayList<>(h.faceCount());
+        for (var face : h.getFaces()) {
+            faces.add(new SphericalPolygon(List.copyOf(face.getVertices())));
+        }
+        return new SphericalPolyhedron(List.copyOf(faces));
+    }
+
+    // Metrics
+    public long hitCount() {
+        return hits.sum();
+    }
+    public long missCount() {
+        return misses.sum();
+    }
+    public long evictionCount() {
+        return evictions.sum();
+    }
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+    public int capacity() {
+        return capacity;
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+}
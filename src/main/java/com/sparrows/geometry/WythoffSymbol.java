@@ -23,11 +23,15 @@ import com.sparrows.geometry.spherical.SchwarzTriangle;
 import com.sparrows.geometry.spherical.SphericalPoint;
 import com.sparrows.geometry.spherical.SphericalPolygon;
 import com.sparrows.geometry.spherical.SphericalPolyhedron;
+import com.sparrows.geometry.transformation.SphericalRotation;
+import com.sparrows.geometry.utils.FaceIndex;
+import com.sparrows.geometry.utils.VertexIndex;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 public class WythoffSymbol {
@@ -63,6 +67,9 @@ public class WythoffSymbol {
             throw new InvalidWythoffSymbol();
         }
         schwarzTriangle = new SchwarzTriangle(Rational.parseRational(elements.get(0)),Rational.parseRational(elements.get(1)),Rational.parseRational(elements.get(2)));
+        if (!schwarzTriangle.tilesSphere()) {
+            throw new DoesNotTileSphere();
+        }
     }
 
     public Type getType() {
@@ -73,6 +80,55 @@ public class WythoffSymbol {
         return schwarzTriangle;
     }
 
+    /**
+     * <p>The same symbol with p, q and r in a standard order, so that symbols for the same polyhedron are equal.</p>
+     * <p>The two numbers on one side of the bar can be swapped, and all three can be permuted when they're on
+     * the same side. Snub symbols are only rotated cyclically, as an odd permutation gives the mirror image.
+     * The polyhedron of the standard symbol is congruent to this one's, but may be placed differently.</p>
+     */
+    public WythoffSymbol canonical() {
+        Rational p = schwarzTriangle.getP();
+        Rational q = schwarzTriangle.getQ();
+        Rational r = schwarzTriangle.getR();
+        Rational[] order;
+        switch (type) {
+            case ONE:
+                order = q.lessThanOrEqual(r) ? new Rational[] {p, q, r} : new Rational[] {p, r, q};
+                break;
+            case TWO:
+                order = p.lessThanOrEqual(q) ? new Rational[] {p, q, r} : new Rational[] {q, p, r};
+                break;
+            case THREE:
+                order = new Rational[] {p, q, r};
+                Arrays.sort(order, (a, b) -> a.equals(b) ? 0 : a.lessThan(b) ? -1 : 1);
+                break;
+            default:
+                order = new Rational[] {p, q, r};
+                for (Rational[] rotation : Arrays.asList(new Rational[] {q, r, p}, new Rational[] {r, p, q})) {
+                    if (lexicallyBefore(rotation, order)) {
+                        order = rotation;
+                    }
+                }
+        }
+        if (order[0].equals(p) && order[1].equals(q) && order[2].equals(r)) {
+            return this;
+        }
+        try {
+            return new WythoffSymbol(new SchwarzTriangle(order[0], order[1], order[2]), type);
+        } catch (InvalidSchwarzTriangle e) {
+            // can't happen, as any permutation of a Schwarz triangle is one
+            throw new IllegalStateException(e);
+        }
+    }
+    private static boolean lexicallyBefore(Rational[] a, Rational[] b) {
+        for (var i = 0; i < a.length; i++) {
+            if (!a[i].equals(b[i])) {
+                return a[i].lessThan(b[i]);
+            }
+        }
+        return false;
+    }
+
     public int vertexCount() throws ZeroDenominator {
         switch (type) {
             case SNUB:
@@ -112,7 +168,14 @@ public class WythoffSymbol {
         }
     }
 
+    /**
+     * @throws DoesNotTileSphere If the Schwarz triangle doesn't tile the sphere, which the constructor from a
+     * Schwarz triangle doesn't check.
+     */
     public SphericalPolyhedron uniformPolyhedron() throws GeometryException {
+        if (!schwarzTriangle.tilesSphere()) {
+            throw new DoesNotTileSphere();
+        }
         SphericalPolygon triangle = schwarzTriangle.triangle();
 
         SphericalPoint p = triangle.getVertex(0);
@@ -300,18 +363,24 @@ public class WythoffSymbol {
 
         }
 
+        // index the faces found so far, so each new face is checked with a hash lookup rather than against every face
+        var faces = new FaceSet(faceList);
         if (type == Type.SNUB) {
+            // the same three rotations are applied to every face, so build them once
+            var rotationP = new SphericalRotation(p,2*Math.PI/schwarzTriangle.getP().toDouble());
+            var rotationQ = new SphericalRotation(q,2*Math.PI/schwarzTriangle.getQ().toDouble());
+            var rotationR = new SphericalRotation(r,2*Math.PI/schwarzTriangle.getR().toDouble());
             for (var f = 0; f < faceList.size(); f++) {
-                addToFaceList(faceList, faceList.get(f).rotate(p,2*Math.PI/schwarzTriangle.getP().toDouble()));
-                addToFaceList(faceList, faceList.get(f).rotate(q,2*Math.PI/schwarzTriangle.getQ().toDouble()));
-                addToFaceList(faceList, faceList.get(f).rotate(r,2*Math.PI/schwarzTriangle.getR().toDouble()));
+                faces.add(faceList.get(f).sphericalTransform(rotationP));
+                faces.add(faceList.get(f).sphericalTransform(rotationQ));
+                faces.add(faceList.get(f).sphericalTransform(rotationR));
             }
         } else {
             // reflect faces in all mirrors
             for (var f = 0; f < faceList.size(); f++) {
-                addToFaceList(faceList, faceList.get(f).reflect(opq).reverse());
-                addToFaceList(faceList, faceList.get(f).reflect(oqr).reverse());
-                addToFaceList(faceList, faceList.get(f).reflect(orp).reverse());
+                faces.add(faceList.get(f).reflect(opq).reverse());
+                faces.add(faceList.get(f).reflect(oqr).reverse());
+                faces.add(faceList.get(f).reflect(orp).reverse());
             }
         }
 
@@ -368,9 +437,48 @@ public class WythoffSymbol {
         return new SphericalPolygon(vertexList);
     }
 
-    private void addToFaceList(List<SphericalPolygon> faceList, SphericalPolygon face) {
-        if (faceList.stream().filter(x -> x.identicalOrOpposite(face)).findFirst().isEmpty()) {
-            faceList.add(face);
+    /**
+     * <p>A list of faces that only accepts a face if it isn't identical or opposite to one already there.</p>
+     * <p>Vertices are welded with a {@link VertexIndex}, so a face becomes a cycle of vertex numbers, and two faces
+     * are identical or opposite exactly when their cycles have the same canonical form in a {@link FaceIndex}.
+     * Checking a face then costs O(V) rather than a comparison with every face in the list.</p>
+     */
+    private static class FaceSet {
+        private final List<SphericalPolygon> faceList;
+        private final VertexIndex vertexIndex = new VertexIndex();
+        private final FaceIndex faceIndex;
+        private int[] cycle = new int[8];
+        private int[] canonical = new int[8];
+
+        // the faces already in the list are all kept
+        private FaceSet(List<SphericalPolygon> faceList) {
+            this.faceList = faceList;
+            faceIndex = new FaceIndex(Math.max(faceList.size(), 16));
+            for (var face : faceList) {
+                faceIndex.add(cycle(face), 0, face.vertexCount());
+            }
+        }
+
+        private void add(SphericalPolygon face) {
+            var n = face.vertexCount();
+            FaceIndex.canonicalise(cycle(face), 0, n, canonical, 0);
+            if (faceIndex.find(canonical, n, null) < 0) {
+                faceIndex.add(cycle, 0, n);
+                faceList.add(face);
+            }
+        }
+
+        private int[] cycle(SphericalPolygon face) {
+            var n = face.vertexCount();
+            if (n > cycle.length) {
+                cycle = new int[n];
+                canonical = new int[n];
+            }
+            for (var v = 0; v < n; v++) {
+                SphericalPoint vertex = face.getVertex(v);
+                cycle[v] = vertexIndex.findOrAdd(vertex.getX(), vertex.getY(), vertex.getZ());
+            }
+            return cycle;
         }
     }
 
@@ -381,6 +489,20 @@ public class WythoffSymbol {
         return intersections.get(0);
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        var w = (WythoffSymbol) o;
+        return type == w.type && schwarzTriangle.getP().equals(w.schwarzTriangle.getP())
+                && schwarzTriangle.getQ().equals(w.schwarzTriangle.getQ())
+                && schwarzTriangle.getR().equals(w.schwarzTriangle.getR());
+    }
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, schwarzTriangle.getP(), schwarzTriangle.getQ(), schwarzTriangle.getR());
+    }
+
     @Override
     public String toString() {
         if (type == Type.ONE) {
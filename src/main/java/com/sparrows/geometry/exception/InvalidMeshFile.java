@@ -0,0 +1,12 @@
+package com.sparrows.geometry.exception;
+
+import java.io.IOException;
+
+public class InvalidMeshFile extends IOException {
+    public InvalidMeshFile(String message) {
+        super(message);
+    }
+    public InvalidMeshFile(int line, String message) {
+        super("Line " + line + ": " + message);
+    }
+}
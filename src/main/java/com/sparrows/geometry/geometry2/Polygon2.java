@@ -21,26 +21,45 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 public class Polygon2 extends Polygon implements GeometryObject2<Polygon2> {
-    public static final Polygon2 triangle;
-    public static final Polygon2 square;
-    public static final Polygon2 pentagon;
-    public static final Polygon2 pentagram;
-    public static final Polygon2 hexagon;
-    public static final Polygon2 octagon;
-    public static final Polygon2 octagram;
-    public static final Polygon2 decagon;
-    public static final Polygon2 decagram;
-
-    static {
-        triangle = regularNoException(3, 1);
-        square = regularNoException(4, 1);
-        pentagon = regularNoException(5, 1);
-        pentagram = regularNoException(5,2);
-        hexagon = regularNoException(6, 1);
-        octagon = regularNoException(8,1);
-        octagram = regularNoException(8,3);
-        decagon = regularNoException(10,1);
-        decagram = regularNoException(10,3);
+    // the regular polygons are only built when one of them is first asked for
+    private static class Regular {
+        private static final Polygon2 TRIANGLE = regularNoException(3, 1);
+        private static final Polygon2 SQUARE = regularNoException(4, 1);
+        private static final Polygon2 PENTAGON = regularNoException(5, 1);
+        private static final Polygon2 PENTAGRAM = regularNoException(5, 2);
+        private static final Polygon2 HEXAGON = regularNoException(6, 1);
+        private static final Polygon2 OCTAGON = regularNoException(8, 1);
+        private static final Polygon2 OCTAGRAM = regularNoException(8, 3);
+        private static final Polygon2 DECAGON = regularNoException(10, 1);
+        private static final Polygon2 DECAGRAM = regularNoException(10, 3);
+    }
+
+    public static Polygon2 triangle() {
+        return Regular.TRIANGLE;
+    }
+    public static Polygon2 square() {
+        return Regular.SQUARE;
+    }
+    public static Polygon2 pentagon() {
+        return Regular.PENTAGON;
+    }
+    public static Polygon2 pentagram() {
+        return Regular.PENTAGRAM;
+    }
+    public static Polygon2 hexagon() {
+        return Regular.HEXAGON;
+    }
+    public static Polygon2 octagon() {
+        return Regular.OCTAGON;
+    }
+    public static Polygon2 octagram() {
+        return Regular.OCTAGRAM;
+    }
+    public static Polygon2 decagon() {
+        return Regular.DECAGON;
+    }
+    public static Polygon2 decagram() {
+        return Regular.DECAGRAM;
     }
 
     private final List<Point2> vertices;
@@ -0,0 +1,282 @@
+package com.sparrows.geometry.geometry3;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.sparrows.geometry.utils.LongIntHashMap;
+
+/**
+ * <p>A compact indexed half-edge representation of a polyhedron.</p>
+ * <p>Vertex coordinates are packed into a single array of x, y, z triples and all adjacency is held
+ * in int arrays, so no queries box their results. Each side of each face is a half-edge; the
+ * half-edges of face f are numbered consecutively from {@code faceHalfEdge(f)}, running from each
+ * vertex of the face to the next.</p>
+ * <p>The twin of a half-edge is the other half-edge on the same edge. For an oriented polyhedron
+ * it runs in the opposite direction. Edges bordering only one face, or more than two, have no
+ * twins.</p>
+ */
+public class HalfEdgeMesh {
+    private final double[] coordinates;
+    private final int[] faceStart;
+    private final int[] origin;
+    private final int[] face;
+    private final int[] twin;
+    private final int[] edge;
+    private final int[] edgeHalfEdge;
+    private final int[] edgeFaceCount;
+    private final int[] vertexStart;
+    private final int[] vertexHalfEdges;
+
+    // Constructors
+    /**
+     * <p>Build a mesh from indexed data. The arrays are used directly, not copied.</p>
+     * @param coordinates The vertex coordinates as x, y, z triples.
+     * @param faceStart For each face, the position of its first vertex in faceVertices, followed by
+     *                  the length of faceVertices.
+     * @param faceVertices The vertex indices of each face in turn.
+     */
+    public HalfEdgeMesh(double[] coordinates, int[] faceStart, int[] faceVertices) {
+        if (coordinates.length % 3 != 0) {
+            throw new IllegalArgumentException("Coordinates must be x, y, z triples.");
+        }
+        var vertexCount = coordinates.length / 3;
+        var faceCount = faceStart.length - 1;
+        var halfEdgeCount = faceStart[faceCount];
+        for (var f = 0; f < faceCount; f++) {
+            if (faceStart[f + 1] - faceStart[f] < 3) {
+                throw new IllegalArgumentException("A polygon must have at least three vertices.");
+            }
+        }
+        for (var h = 0; h < halfEdgeCount; h++) {
+            if (faceVertices[h] < 0 || faceVertices[h] >= vertexCount) {
+                throw new IllegalArgumentException("Invalid vertex index " + faceVertices[h] + ".");
+            }
+        }
+
+        this.coordinates = coordinates;
+        this.faceStart = faceStart;
+        this.origin = faceVertices;
+
+        face = new int[halfEdgeCount];
+        for (var f = 0; f < faceCount; f++) {
+            Arrays.fill(face, faceStart[f], faceStart[f + 1], f);
+        }
+
+        // pair half-edges sharing the same two vertices
+        twin = new int[halfEdgeCount];
+        Arrays.fill(twin, -1);
+        edge = new int[halfEdgeCount];
+        var edgeIndex = new LongIntHashMap(halfEdgeCount / 2);
+        var edgeFirst = new int[halfEdgeCount];
+        var edgeCounts = new int[halfEdgeCount];
+        var edgeCount = 0;
+        for (var h = 0; h < halfEdgeCount; h++) {
+            int v1 = origin[h];
+            int v2 = origin[next(h)];
+            long key = v1 < v2 ? ((long)v1 << 32) | v2 : ((long)v2 << 32) | v1;
+            int e = edgeIndex.putIfAbsent(key, edgeCount, -1);
+            if (e < 0) {
+                e = edgeCount++;
+                edgeFirst[e] = h;
+            } else if (edgeCounts[e] == 1) {
+                twin[h] = edgeFirst[e];
+                twin[edgeFirst[e]] = h;
+            } else if (edgeCounts[e] == 2) {
+                // more than two faces at this edge
+                twin[twin[edgeFirst[e]]] = -1;
+                twin[edgeFirst[e]] = -1;
+            }
+            edgeCounts[e]++;
+            edge[h] = e;
+        }
+        edgeHalfEdge = Arrays.copyOf(edgeFirst, edgeCount);
+        edgeFaceCount = Arrays.copyOf(edgeCounts, edgeCount);
+
+        // outgoing half-edges of each vertex
+        vertexStart = new int[vertexCount + 1];
+        for (var h = 0; h < halfEdgeCount; h++) {
+            vertexStart[origin[h] + 1]++;
+        }
+        for (var v = 0; v < vertexCount; v++) {
+            vertexStart[v + 1] += vertexStart[v];
+        }
+        vertexHalfEdges = new int[halfEdgeCount];
+        var fill = Arrays.copyOf(vertexStart, vertexCount);
+        for (var h = 0; h < halfEdgeCount; h++) {
+            vertexHalfEdges[fill[origin[h]]++] = h;
+        }
+    }
+    public HalfEdgeMesh(Polyhedron h) {
+        this(packCoordinates(h.vertices()), faceStart(h.faceVertices()), packFaceVertices(h.faceVertices()));
+    }
+
+    private static double[] packCoordinates(List<Point3> vertices) {
+        var coordinates = new double[3 * vertices.size()];
+        for (var v = 0; v < vertices.size(); v++) {
+            Point3 vertex = vertices.get(v);
+            coordinates[3 * v] = vertex.getX();
+            coordinates[3 * v + 1] = vertex.getY();
+            coordinates[3 * v + 2] = vertex.getZ();
+        }
+        return coordinates;
+    }
+
+    private static int[] faceStart(List<List<Integer>> faceVertices) {
+        var faceStart = new int[faceVertices.size() + 1];
+        for (var f = 0; f < faceVertices.size(); f++) {
+            faceStart[f + 1] = faceStart[f] + faceVertices.get(f).size();
+        }
+        return faceStart;
+    }
+
+    private static int[] packFaceVertices(List<List<Integer>> faceVertices) {
+        var packed = new int[faceVertices.stream().mapToInt(List::size).sum()];
+        var h = 0;
+        for (var vertices : faceVertices) {
+            for (int v : vertices) {
+                packed[h++] = v;
+            }
+        }
+        return packed;
+    }
+
+    // Counts
+    public int vertexCount() {
+        return coordinates.length / 3;
+    }
+    public int faceCount() {
+        return faceStart.length - 1;
+    }
+    public int halfEdgeCount() {
+        return origin.length;
+    }
+    public int edgeCount() {
+        return edgeHalfEdge.length;
+    }
+
+    // Vertices
+    public double getX(int v) {
+        return coordinates[3 * v];
+    }
+    public double getY(int v) {
+        return coordinates[3 * v + 1];
+    }
+    public double getZ(int v) {
+        return coordinates[3 * v + 2];
+    }
+    public Point3 getVertex(int v) {
+        return new Point3(coordinates[3 * v], coordinates[3 * v + 1], coordinates[3 * v + 2]);
+    }
+    /**
+     * @return The number of faces at vertex v, which is also the number of half-edges leaving it.
+     */
+    public int vertexDegree(int v) {
+        return vertexStart[v + 1] - vertexStart[v];
+    }
+    /**
+     * @return The i'th half-edge leaving vertex v, in order of face.
+     */
+    public int vertexHalfEdge(int v, int i) {
+        return vertexHalfEdges[vertexStart[v] + i];
+    }
+    public int vertexFace(int v, int i) {
+        return face[vertexHalfEdges[vertexStart[v] + i]];
+    }
+
+    // Faces
+    public int faceDegree(int f) {
+        return faceStart[f + 1] - faceStart[f];
+    }
+    public int faceHalfEdge(int f) {
+        return faceStart[f];
+    }
+    public int faceVertex(int f, int i) {
+        return origin[faceStart[f] + i];
+    }
+
+    // Half-edges
+    public int origin(int h) {
+        return origin[h];
+    }
+    public int target(int h) {
+        return origin[next(h)];
+    }
+    public int face(int h) {
+        return face[h];
+    }
+    public int next(int h) {
+        return h + 1 == faceStart[face[h] + 1] ? faceStart[face[h]] : h + 1;
+    }
+    public int previous(int h) {
+        return h == faceStart[face[h]] ? faceStart[face[h] + 1] - 1 : h - 1;
+    }
+    /**
+     * @return The other half-edge on the same edge, or -1 if the edge does not border exactly two faces.
+     */
+    public int twin(int h) {
+        return twin[h];
+    }
+    /**
+     * @return The position of the half-edge within its face, i.e. the side number of the face.
+     */
+    public int side(int h) {
+        return h - faceStart[face[h]];
+    }
+    public int edge(int h) {
+        return edge[h];
+    }
+
+    // Edges
+    /**
+     * @return The first half-edge found on edge e; the edge runs in the same direction.
+     */
+    public int edgeHalfEdge(int e) {
+        return edgeHalfEdge[e];
+    }
+    public int edgeFaceCount(int e) {
+        return edgeFaceCount[e];
+    }
+    public int edgeVertex1(int e) {
+        return origin[edgeHalfEdge[e]];
+    }
+    public int edgeVertex2(int e) {
+        return target(edgeHalfEdge[e]);
+    }
+
+    /**
+     * @return Whether every edge borders two faces which traverse it in opposite directions.
+     */
+    public boolean oriented() {
+        for (var h = 0; h < origin.length; h++) {
+            if (twin[h] < 0 || origin[twin[h]] == origin[h]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Conversion
+    /**
+     * <p>Build the faces of this mesh. Faces sharing a vertex share the same Point3.</p>
+     */
+    public List<Polygon3> polygons() {
+        var points = new Point3[vertexCount()];
+        for (var v = 0; v < points.length; v++) {
+            points[v] = getVertex(v);
+        }
+        List<Polygon3> polygons = new ArrayList<>(faceCount());
+        for (var f = 0; f < faceCount(); f++) {
+            List<Point3> vertices = new ArrayList<>(faceDegree(f));
+            for (var h = faceStart[f]; h < faceStart[f + 1]; h++) {
+                vertices.add(points[origin[h]]);
+            }
+            polygons.add(new Polygon3(vertices));
+        }
+        return polygons;
+    }
+
+    public Polyhedron toPolyhedron() {
+        return new Polyhedron(polygons());
+    }
+}
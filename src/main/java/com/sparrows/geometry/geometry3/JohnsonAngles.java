@@ -0,0 +1,80 @@
+package com.sparrows.geometry.geometry3;
+
+import com.sparrows.geometry.maths.Maths;
+import com.sparrows.geometry.utils.GeometryUtils;
+
+// Dihedral angles and coordinates shared by the Johnson solid data, computed once for both halves of the data
+abstract class JohnsonAngles {
+    static final double TV3_3_3 = GeometryUtils.trivalentVertexAngle(3, 3, 3);
+    static final double TV3_3_4 = GeometryUtils.trivalentVertexAngle(3, 3, 4);
+    static final double TV3_3_5 = GeometryUtils.trivalentVertexAngle(3, 3, 5);
+    static final double TV3_4_3 = GeometryUtils.trivalentVertexAngle(3,4,3);
+    static final double TV3_4_5 = GeometryUtils.trivalentVertexAngle(3,4,5);
+    static final double TV3_4_6 = GeometryUtils.trivalentVertexAngle(3,4,6);
+    static final double TV3_4_8 = GeometryUtils.trivalentVertexAngle(3, 4, 8);
+    static final double TV3_4_10 = GeometryUtils.trivalentVertexAngle(3, 4, 10);
+    static final double TV3_5_3 = GeometryUtils.trivalentVertexAngle(3,5,3);
+    static final double TV3_5_5 = GeometryUtils.trivalentVertexAngle(3,5,5);
+    static final double TV3_5_10 = GeometryUtils.trivalentVertexAngle(3,5,10);
+    static final double TV3_6_4 = GeometryUtils.trivalentVertexAngle(3,6,4);
+    static final double TV3_8_4 = GeometryUtils.trivalentVertexAngle(3,8,4);
+    static final double TV3_8_8 = GeometryUtils.trivalentVertexAngle(3,8,8);
+    static final double TV3_10_4 = GeometryUtils.trivalentVertexAngle(3,10,4);
+    static final double TV3_10_5 = GeometryUtils.trivalentVertexAngle(3,10,5);
+    static final double TV3_10_10 = GeometryUtils.trivalentVertexAngle(3,10,10);
+    static final double TV4_6_3 = GeometryUtils.trivalentVertexAngle(4,6,3);
+    static final double TV4_8_3 = GeometryUtils.trivalentVertexAngle(4,8,3);
+    static final double TV4_10_3 = GeometryUtils.trivalentVertexAngle(4,10,3);
+    static final double TV5_5_3 = GeometryUtils.trivalentVertexAngle(5, 5, 3);
+    static final double TV5_5_5 = GeometryUtils.trivalentVertexAngle(5, 5, 5);
+    static final double TV5_10_3 = GeometryUtils.trivalentVertexAngle(5,10,3);
+    static final double TV6_10_3 = GeometryUtils.trivalentVertexAngle(6,10,3);
+
+    static final double AP_4_TE = GeometryUtils.uniformAntiprismTriangleEndDihedralAngle(4,1);
+    static final double AP_5_TE = GeometryUtils.uniformAntiprismTriangleEndDihedralAngle(5,1);
+    static final double AP_6_TE = GeometryUtils.uniformAntiprismTriangleEndDihedralAngle(6,1);
+    static final double AP_8_TE = GeometryUtils.uniformAntiprismTriangleEndDihedralAngle(8,1);
+    static final double AP_10_TE = GeometryUtils.uniformAntiprismTriangleEndDihedralAngle(10,1);
+    static final double AP_4_TT = GeometryUtils.uniformAntiprismTriangleTriangleDihedralAngle(4,1);
+    static final double AP_5_TT = GeometryUtils.uniformAntiprismTriangleTriangleDihedralAngle(5,1);
+    static final double AP_6_TT = GeometryUtils.uniformAntiprismTriangleTriangleDihedralAngle(6,1);
+    static final double AP_8_TT = GeometryUtils.uniformAntiprismTriangleTriangleDihedralAngle(8,1);
+    static final double AP_10_TT = GeometryUtils.uniformAntiprismTriangleTriangleDihedralAngle(10,1);
+    
+    static final double U7_3_4 = Math.acos(-1 / Math.sqrt(3));
+    static final double U10_4_4 = 3 * Math.PI / 4;
+    static final double U27_4_5 = Math.acos(-Math.sqrt(2) / Math.sqrt(5 - Math.sqrt(5)));
+    static final double U24_3_5 = Math.acos((Math.sqrt(5 - 2 * Math.sqrt(5)) - 2 * Math.sqrt(10 + 2 * Math.sqrt(5))) / (5 * Math.sqrt(3)));
+    static final double R3_4_4 = Maths.PI2;
+    static final double J84_XB = 1.28916854644830996908267745816856738814;
+    static final double J84_YB = 1.97898498017164637599616094723905191425;
+    static final double J84_YC = 1.15673871675860822368475614743349356277;
+    static final double J85_XB = 2.42641109173262666165204439214409140362;
+    static final double J85_XC = 1.71573173691039433373702483221537987213;
+    static final double J85_ZB = 0.9825229754983524694317412696077136282066;
+    static final double J85_ZC = 1.72495106062707185971655584083764300066;
+    static final double J86_XB = 1.70545388569283371081492313044538442703;
+    static final double J86_YB = 1.04471385736727685418675116891276291612;
+    static final double J86_YC = 1.91439980038178555878007598838708920242;
+    static final double J86_ZC = 1.57885525332174329772195192048459890811;
+    static final double J86_YD = 2.62659084852710857007385809347921618429;
+    static final double J88_XB = 1.18926667126527706010484880458405740671;
+    static final double J88_YB = 1.60799402505656327037636466971773595932;
+    static final double J88_YC = 1.24378571613762520805874707646627723584;
+    static final double J88_ZC = 2.56620467766253807983364462579308941622;
+    static final double J88_YD = 3.05100274516968738300384165307913802827;
+    static final double J88_ZD = 1.70948616497793025298935903002396210491;
+    static final double J88_YE = 3.329672893820468831139933583782120464;
+    static final double J89_XB = 1.43368963142691367434075969978110504334;
+    static final double J89_YB = 1.95241217564140071898981918288456133114;
+    static final double J89_YC = 1.24650402296707922228869168098004908688;
+    static final double J89_ZC = 2.2025920840945558272545740964774878016;
+    static final double J89_YD = 3.17465028297600531631628963584665830654;
+    static final double J89_ZD = 1.67131814344473365646805970026946951958;
+    static final double J89_YE = 3.62928823056996572733960007104726112145;
+    static final double J90_XB = 1.53426222796692300383633549749761622683;
+    static final double J90_YB = 1.2829806763291384770435141299672633776;
+    static final double J90_YC = 1.55886993225992744772021916477598794449;
+    static final double J90_ZC = 2.25296629415795906733401060113822183689;
+    static final double J90_YD = 3.13477109199059750215248446173053933224;
+}
@@ -0,0 +1,164 @@
+package com.sparrows.geometry.geometry3;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * <p>The 92 Johnson solids, built and validated once at build time and stored as a resource.</p>
+ * <p>The resource holds a header (magic number, version, count, checksum of the source data), a table of the
+ * offset of each solid, then for each solid its vertex count, the vertex coordinates as doubles, its face count,
+ * and for each face its vertex count and vertex indices. It's read the first time a solid is asked for, and each
+ * solid is decoded from it on request, so getting a solid costs a few allocations rather than rebuilding it from
+ * dihedral angles.</p>
+ * <p>Running this class writes the resource under the given output directory, and the build does so in the
+ * process-classes phase, failing if any solid doesn't validate. If the resource is missing, or was written from
+ * other data in {@link Johnson1} and {@link Johnson2} (say by an IDE build that doesn't run this),
+ * {@link #get(int)} returns null and the solid is built from its data instead. A change to how the solids are
+ * built from the data needs {@link #VERSION} raising.</p>
+ */
+public final class JohnsonCatalogue {
+    static final String RESOURCE = "johnson.bin";
+    private static final int MAGIC = 0x4A4F484E;
+    private static final int VERSION = 2;
+    static final int COUNT = 92;
+    private static final int HEADER = 16;
+
+    private JohnsonCatalogue() {
+    }
+
+    // the resource is only read when the first solid is asked for
+    private static class Holder {
+        private static final ByteBuffer DATA = load();
+    }
+
+    /**
+     * @return A new copy of the given Johnson solid, or null if there's no catalogue.
+     */
+    static Polyhedron get(int index) {
+        ByteBuffer data = Holder.DATA;
+        if (data == null) {
+            return null;
+        }
+        // absolute reads only, so threads can share the buffer
+        int ptr = data.getInt(HEADER + 4 * (index - 1));
+        int nVertices = data.getShort(ptr);
+        ptr += 2;
+        var vertex = new Point3[nVertices];
+        for (var v = 0; v < nVertices; v++) {
+            vertex[v] = new Point3(data.getDouble(ptr), data.getDouble(ptr + 8), data.getDouble(ptr + 16));
+            ptr += 24;
+        }
+        int nFaces = data.getShort(ptr);
+        ptr += 2;
+        List<Polygon3> faces = new ArrayList<>(nFaces);
+        for (var f = 0; f < nFaces; f++) {
+            int faceVertices = data.get(ptr++);
+            List<Point3> face = new ArrayList<>(faceVertices);
+            for (var v = 0; v < faceVertices; v++) {
+                face.add(vertex[data.getShort(ptr)]);
+                ptr += 2;
+            }
+            faces.add(new Polygon3(face));
+        }
+        return new Polyhedron(faces);
+    }
+
+    private static ByteBuffer load() {
+        try (InputStream in = JohnsonCatalogue.class.getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                return null;
+            }
+            return check(in.readAllBytes());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    // the catalogue, or null if it isn't one or was written from other data
+    static ByteBuffer check(byte[] bytes) {
+        var data = ByteBuffer.wrap(bytes);
+        if (data.limit() < HEADER + 4 * COUNT || data.getInt(0) != MAGIC || data.getInt(4) != VERSION
+                || data.getInt(8) != COUNT || data.getInt(12) != sourceChecksum()) {
+            return null;
+        }
+        return data.asReadOnlyBuffer();
+    }
+
+    // CRC-32 of the data the solids are built from
+    static int sourceChecksum() {
+        var crc = new CRC32();
+        var buffer = ByteBuffer.allocate(8);
+        for (double[][] table : List.of(Johnson1.JohnsonData1_50, Johnson2.JohnsonData51_92)) {
+            for (double[] row : table) {
+                buffer.clear();
+                crc.update(buffer.putInt(row.length).flip());
+                for (var x : row) {
+                    buffer.clear();
+                    crc.update(buffer.putDouble(x).flip());
+                }
+            }
+        }
+        return (int) crc.getValue();
+    }
+
+    // build and validate every solid from its data and write the catalogue
+    static void write(OutputStream out) throws IOException {
+        var solids = new ByteArrayOutputStream();
+        var solidsOut = new DataOutputStream(solids);
+        var offsets = new int[COUNT];
+        for (var i = 1; i <= COUNT; i++) {
+            offsets[i - 1] = HEADER + 4 * COUNT + solidsOut.size();
+            Polyhedron h = Johnson.build(i);
+            h.validate();
+            List<Point3> vertices = h.vertices();
+            solidsOut.writeShort(vertices.size());
+            for (var p : vertices) {
+                solidsOut.writeDouble(p.getX());
+                solidsOut.writeDouble(p.getY());
+                solidsOut.writeDouble(p.getZ());
+            }
+            solidsOut.writeShort(h.faceCount());
+            for (var face : h.faceVertices()) {
+                solidsOut.writeByte(face.size());
+                for (var v : face) {
+                    solidsOut.writeShort(v);
+                }
+            }
+        }
+
+        var dataOut = new DataOutputStream(out);
+        dataOut.writeInt(MAGIC);
+        dataOut.writeInt(VERSION);
+        dataOut.writeInt(COUNT);
+        dataOut.writeInt(sourceChecksum());
+        for (var offset : offsets) {
+            dataOut.writeInt(offset);
+        }
+        solids.writeTo(dataOut);
+        dataOut.flush();
+    }
+
+    /**
+     * @param args The class output directory, in which the resource is written next to this class.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: JohnsonCatalogue <output directory>");
+        }
+        Path file = Path.of(args[0], JohnsonCatalogue.class.getPackageName().split("\\.")).resolve(RESOURCE);
+        Files.createDirectories(file.getParent());
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            write(out);
+        }
+    }
+}
@@ -130,7 +130,10 @@ public class Point3 implements GeometryObject3<Point3> {
 
     @Override
     public Point3 affineTransform(AffineTransformation3 t) {
-        return new Point3(t.getMatrix().mult(augmentedMatrix()));
+        return new Point3(
+                t.get(0,0) * x + t.get(0,1) * y + t.get(0,2) * z + t.get(0,3),
+                t.get(1,0) * x + t.get(1,1) * y + t.get(1,2) * z + t.get(1,3),
+                t.get(2,0) * x + t.get(2,1) * y + t.get(2,2) * z + t.get(2,3));
     }
 
     @Override
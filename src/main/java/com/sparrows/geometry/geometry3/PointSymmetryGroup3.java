@@ -6,11 +6,14 @@ import java.util.regex.Pattern;
 
 import com.sparrows.geometry.exception.GeometryException;
 import com.sparrows.geometry.exception.NotAPointSymmetry;
+import com.sparrows.geometry.maths.Maths;
+import com.sparrows.geometry.transformation.InversionOrigin3;
 import com.sparrows.geometry.transformation.Reflection3;
 import com.sparrows.geometry.transformation.ReflectionOrigin3;
 import com.sparrows.geometry.transformation.RotationOrigin3;
 import com.sparrows.geometry.transformation.RotationalSymmetryAxis;
 import com.sparrows.geometry.transformation.RotoreflectionOrigin3;
+import com.sparrows.geometry.transformation.d3.GroupClosure;
 import com.sparrows.geometry.transformation.d3.LinearTransformation3;
 
 /**
@@ -256,6 +259,7 @@ public class PointSymmetryGroup3 {
             if (this.type == Type.D && this.subtype == Subtype.d) {
                 // DnD
                 generators.add(new RotoreflectionOrigin3(Vector3.Z_UNIT,Math.PI/this.n));
+                generators.add(new ReflectionOrigin3(Plane3.Y_EQUALS_0));
             } else if (this.type == Type.C || this.type == Type.D) {
                 // Cn, Cnh, Cnv, D, Dnh
                 generators.add(new RotationOrigin3(Vector3.Z_UNIT, 2*Math.PI/this.n));
@@ -274,6 +278,21 @@ public class PointSymmetryGroup3 {
             } else if (this.type == Type.S) {
                 // Sn
                 generators.add(new RotoreflectionOrigin3(Vector3.Z_UNIT,2*Math.PI/this.n));
+            } else {
+                // T, O, I: a 2-fold or 4-fold axis on z, a 3-fold axis through (1,1,1)
+                // and for I a 5-fold axis through the icosahedron vertex (0,1,phi)
+                generators.add(new RotationOrigin3(Vector3.Z_UNIT, this.type == Type.O ? Math.PI/2 : Math.PI));
+                generators.add(new RotationOrigin3(new Vector3(1,1,1), 2*Math.PI/3));
+                if (this.type == Type.I) {
+                    generators.add(new RotationOrigin3(new Vector3(0,1,(1+Maths.SQRT5)/2), 2*Math.PI/5));
+                }
+                if (this.subtype == Subtype.h) {
+                    // Th, Oh, Ih
+                    generators.add(new InversionOrigin3());
+                } else if (this.subtype == Subtype.d) {
+                    // Td
+                    generators.add(new ReflectionOrigin3(new Vector3(1,-1,0).unit()));
+                }
             }
         } catch (GeometryException e) {
             e.printStackTrace();
@@ -281,6 +300,13 @@ public class PointSymmetryGroup3 {
         return generators;
     }
 
+    /**
+     * @return All the elements of this group, generated from {@link #generators()}.
+     */
+    public List<LinearTransformation3> elements() {
+        return GroupClosure.closure(generators());
+    }
+
     @Override
     public String toString() {
         return this.type.toString() + (this.n == null ? "" : this.n) + (this.subtype == null ? "" : this.subtype.toString());
@@ -7,6 +7,7 @@ import com.sparrows.geometry.exception.PolygonNotPlanar;
 import com.sparrows.geometry.exception.ZeroExternalAngle;
 import com.sparrows.geometry.exception.ZeroVectorException;
 import com.sparrows.geometry.geometry2.Polygon2;
+import com.sparrows.geometry.io.ObjWriter;
 import com.sparrows.geometry.maths.Maths;
 import com.sparrows.geometry.spherical.SphericalPolygon;
 import com.sparrows.geometry.transformation.d3.AffineTransformation3;
@@ -14,6 +15,9 @@ import com.sparrows.geometry.transformation.d3.LinearTransformation3;
 import com.sparrows.geometry.transformation.Translation3;
 import com.sparrows.geometry.utils.GeometryUtils;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -21,15 +25,46 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 public class Polygon3 extends Polygon implements GeometryObject3<Polygon3> {
-    public static final Polygon3 triangle = regular(3, 1);
-    public static final Polygon3 square = regular(4, 1);
-    public static final Polygon3 pentagon = regular(5, 1);
-    public static final Polygon3 pentagram = regular(5,2);
-    public static final Polygon3 hexagon = regular(6, 1);
-    public static final Polygon3 octagon = regular(8,1);
-    public static final Polygon3 octagram = regular(8,3);
-    public static final Polygon3 decagon = regular(10,1);
-    public static final Polygon3 decagram = regular(10,3);
+    // the regular polygons are only built when one of them is first asked for
+    private static class Regular {
+        private static final Polygon3 TRIANGLE = regular(3, 1);
+        private static final Polygon3 SQUARE = regular(4, 1);
+        private static final Polygon3 PENTAGON = regular(5, 1);
+        private static final Polygon3 PENTAGRAM = regular(5, 2);
+        private static final Polygon3 HEXAGON = regular(6, 1);
+        private static final Polygon3 OCTAGON = regular(8, 1);
+        private static final Polygon3 OCTAGRAM = regular(8, 3);
+        private static final Polygon3 DECAGON = regular(10, 1);
+        private static final Polygon3 DECAGRAM = regular(10, 3);
+    }
+
+    public static Polygon3 triangle() {
+        return Regular.TRIANGLE;
+    }
+    public static Polygon3 square() {
+        return Regular.SQUARE;
+    }
+    public static Polygon3 pentagon() {
+        return Regular.PENTAGON;
+    }
+    public static Polygon3 pentagram() {
+        return Regular.PENTAGRAM;
+    }
+    public static Polygon3 hexagon() {
+        return Regular.HEXAGON;
+    }
+    public static Polygon3 octagon() {
+        return Regular.OCTAGON;
+    }
+    public static Polygon3 octagram() {
+        return Regular.OCTAGRAM;
+    }
+    public static Polygon3 decagon() {
+        return Regular.DECAGON;
+    }
+    public static Polygon3 decagram() {
+        return Regular.DECAGRAM;
+    }
 
     private final List<Point3> vertices;
 
@@ -163,7 +198,18 @@ public class Polygon3 extends Polygon implements GeometryObject3<Polygon3> {
 
     @Override
     public Polygon3 affineTransform(AffineTransformation3 a) {
-        return new Polygon3(vertices.stream().map(p -> p.affineTransform(a)).collect(Collectors.toList()));
+        var xyz = new double[3 * vertexCount()];
+        for (var v = 0; v < vertexCount(); v++) {
+            xyz[3 * v] = vertices.get(v).getX();
+            xyz[3 * v + 1] = vertices.get(v).getY();
+            xyz[3 * v + 2] = vertices.get(v).getZ();
+        }
+        a.apply(xyz, xyz);
+        List<Point3> transformed = new ArrayList<>(vertexCount());
+        for (var v = 0; v < vertexCount(); v++) {
+            transformed.add(new Point3(xyz[3 * v], xyz[3 * v + 1], xyz[3 * v + 2]));
+        }
+        return new Polygon3(transformed);
     }
 
     @Override
@@ -190,13 +236,17 @@ public class Polygon3 extends Polygon implements GeometryObject3<Polygon3> {
 
     private List<Double> vertexAngles;
     public double vertexAngle(int v) {
-        if (vertexAngles == null) {
-            vertexAngles = new ArrayList<>();
+        List<Double> angles = vertexAngles;
+        if (angles == null) {
+            // only publish the list once it is complete, as polygons are shared between threads
+            List<Double> newAngles = new ArrayList<>();
             for (var u = 0; u < vertexCount(); u++) {
-                vertexAngles.add(side((u + vertexCount() - 1) % vertexCount()).angle(side(u)));
+                newAngles.add(side((u + vertexCount() - 1) % vertexCount()).angle(side(u)));
             }
+            angles = List.copyOf(newAngles);
+            vertexAngles = angles;
         }
-        return vertexAngles.get(v);
+        return angles.get(v);
     }
 
     private Boolean isEquiangular;
@@ -250,16 +300,14 @@ public class Polygon3 extends Polygon implements GeometryObject3<Polygon3> {
     }
 
     public String objString() {
-        String s = "";
-        for (Point3 vertex : this.vertices) {
-            s += "v " + vertex.getX() + " " + vertex.getY() + " " + vertex.getZ() + "\r\n";
-        }
-        s += "f ";
-        for (int v = 0; v < this.vertices.size(); v++) {
-            s += " " + (v + 1);
+        var s = new StringWriter();
+        try (var writer = new ObjWriter(s)) {
+            writer.write(this);
+        } catch (IOException e) {
+            // can't happen
+            throw new UncheckedIOException(e);
         }
-        s += "\r\n";
-        return s;
+        return s.toString();
     }
 
     // Build the next face of a polyhedron. Given a polygon G, we find polygon H
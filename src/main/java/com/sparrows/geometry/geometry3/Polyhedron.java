@@ -1,9 +1,12 @@
 package com.sparrows.geometry.geometry3;
 
 import com.sparrows.geometry.exception.*;
+import com.sparrows.geometry.io.FaceObjWriter;
+import com.sparrows.geometry.io.ObjWriter;
 import com.sparrows.geometry.spherical.SphericalPolyhedron;
 import com.sparrows.geometry.transformation.d3.AffineTransformation3;
-import com.sparrows.geometry.transformation.Identity3;
+import com.sparrows.geometry.transformation.d3.GroupClosure;
+import com.sparrows.geometry.transformation.Inversion3;
 import com.sparrows.geometry.transformation.d3.LinearTransformation3;
 import com.sparrows.geometry.transformation.Reflection3;
 import com.sparrows.geometry.transformation.Rotation3;
@@ -12,34 +15,42 @@ import com.sparrows.geometry.transformation.Rotoreflection3;
 import com.sparrows.geometry.transformation.RotoreflectionalSymmetryAxis;
 import com.sparrows.geometry.transformation.Translation3;
 import com.sparrows.geometry.maths.Maths;
+import com.sparrows.geometry.utils.FaceIndex;
+import com.sparrows.geometry.utils.Lazy;
+import com.sparrows.geometry.utils.LongIntHashMap;
+import com.sparrows.geometry.utils.VertexIndex;
 
-import java.io.BufferedWriter;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 public class Polyhedron implements GeometryObject3<Polyhedron> {
 
-    private Point3 centroid = null;
-    private List<Point3> vertices = null;
-    private List<List<Integer>> vertexFaces = null;
-    private List<List<Integer>> faceVertices = null;
-    private List<List<Integer>> vertexVertices = null;
-    private List<LineSegment3> edges = null;
-    private List<List<Integer>> edgeFaces = null;
-    private List<List<Integer>> edgeVertices = null;
-    private List<List<Integer>> edgeSides = null;
-    private Boolean oriented = null;
-    private List<AffineTransformation3> symmetries = null;
-    private Boolean inversionSymmetry = null;
-    private List<Reflection3> reflectionSymmetries = null;
-    List<RotationalSymmetryAxis> rotationAxes = null;
-    List<Rotation3> rotationSymmetries = null;
-    List<RotoreflectionalSymmetryAxis> rotoreflectionAxes = null;
-    List<Rotoreflection3> rotoreflectionSymmetries = null;
+    // computed on first use and immutable, so a polyhedron can be shared between threads
+    private final Lazy<VertexData> vertexData = new Lazy<>(this::findVertices);
+    private final Lazy<EdgeData> edgeData = new Lazy<>(this::findEdges);
+    private final Lazy<Point3> centroid = new Lazy<>(() -> Point3.centroid(vertices()));
+    private final Lazy<FaceIndex> faceIndex = new Lazy<>(this::findFaceIndex);
+    private final Lazy<HalfEdgeMesh> halfEdgeMesh = new Lazy<>(() -> new HalfEdgeMesh(this));
+    private final Lazy<Triangulation> triangulation = new Lazy<>(() -> new Triangulation(halfEdgeMesh()));
+    private final Lazy<List<AffineTransformation3>> symmetries = new Lazy<>(this::findSymmetries);
+    private final Lazy<Boolean> inversionSymmetry = new Lazy<>(() -> isSymmetry(new Inversion3(centroid())));
+    private final Lazy<List<Reflection3>> reflectionSymmetries = new Lazy<>();
+    private final Lazy<List<RotationalSymmetryAxis>> rotationAxes = new Lazy<>();
+    private final Lazy<List<Rotation3>> rotationSymmetries = new Lazy<>(this::findRotationSymmetries);
+    private final Lazy<List<RotoreflectionalSymmetryAxis>> rotoreflectionAxes = new Lazy<>();
+    private final Lazy<List<Rotoreflection3>> rotoreflectionSymmetries = new Lazy<>(this::findRotoreflectionSymmetries);
+    private final Lazy<Boolean> isFaceEquilateral = new Lazy<>(() -> getFaces().stream().allMatch(Polygon3::isEquilateral));
+    private final Lazy<Boolean> isFaceEquiangular = new Lazy<>(() -> getFaces().stream().allMatch(Polygon3::isEquiangular));
 
     private final List<Polygon3> faces;
 
@@ -62,6 +73,9 @@ public class Polyhedron implements GeometryObject3<Polyhedron> {
     public Polyhedron(SphericalPolyhedron s) {
         this(s.getFaces().stream().map(Polygon3::new).collect(Collectors.toList()));
     }
+    public Polyhedron(HalfEdgeMesh mesh) {
+        this(mesh.polygons());
+    }
     public Polyhedron(Polyhedron ... poly) {
         List<Polygon3> faceList = new ArrayList<>();
         for (var p : poly) {
@@ -90,141 +104,156 @@ public class Polyhedron implements GeometryObject3<Polyhedron> {
         return edges().size();
     }
     public List<Point3> vertices() {
-        findVertices();
-        return vertices;
+        return vertexData.get().vertices;
     }
     public List<List<Integer>> vertexFaces() {
-        findVertices();
-        return vertexFaces;
+        return vertexData.get().vertexFaces;
     }
     public List<List<Integer>> vertexVertices() {
-        findVertices();
-        return vertexVertices;
+        return vertexData.get().vertexVertices;
     }
     public List<List<Integer>> faceVertices() {
-        findVertices();
-        return faceVertices;
-    }
-
-    private void findVertices() {
-        if (vertices == null) {
-            vertices = new ArrayList<>();
-            vertexFaces = new ArrayList<>();
-            vertexVertices = new ArrayList<>();
-            faceVertices = new ArrayList<>();
-            for (var f = 0; f < faceCount(); f++) {
-                Polygon3 face = getFace(f);
-                faceVertices.add(new ArrayList<>());
-                for (var v = 0; v < face.vertexCount(); v++) {
-                    Point3 vertex = face.getVertex(v);
-                    var found = false;
-                    for (var i = 0; i < vertices.size(); i++) {
-                        if (vertex.identical(vertices.get(i))) {
-                            vertexFaces.get(i).add(f);
-                            vertexVertices.get(i).add(v);
-                            faceVertices.get(f).add(i);
-                            found = true;
-                            break;
-                        }
-                    }
-                    if (!found) {
-                        vertices.add(face.getVertex(v));
-                        ArrayList<Integer> x = new ArrayList<>();
-                        x.add(f);
-                        vertexFaces.add(x);
-                        ArrayList<Integer> y = new ArrayList<>();
-                        y.add(v);
-                        vertexVertices.add(y);
-                        faceVertices.get(f).add(vertices.size()-1);
-                    }
+        return vertexData.get().faceVertices;
+    }
+
+    private static class VertexData {
+        private final VertexIndex vertexIndex;
+        private final List<Point3> vertices;
+        private final List<List<Integer>> vertexFaces;
+        private final List<List<Integer>> vertexVertices;
+        private final List<List<Integer>> faceVertices;
+
+        private VertexData(VertexIndex vertexIndex, List<Point3> vertices, List<List<Integer>> vertexFaces,
+                           List<List<Integer>> vertexVertices, List<List<Integer>> faceVertices) {
+            this.vertexIndex = vertexIndex;
+            this.vertices = List.copyOf(vertices);
+            this.vertexFaces = immutable(vertexFaces);
+            this.vertexVertices = immutable(vertexVertices);
+            this.faceVertices = immutable(faceVertices);
+        }
+    }
+
+    private VertexData findVertices() {
+        var vertexIndex = new VertexIndex(faceCount());
+        List<Point3> vertices = new ArrayList<>();
+        List<List<Integer>> vertexFaces = new ArrayList<>();
+        List<List<Integer>> vertexVertices = new ArrayList<>();
+        List<List<Integer>> faceVertices = new ArrayList<>();
+        for (var f = 0; f < faceCount(); f++) {
+            Polygon3 face = getFace(f);
+            List<Integer> thisFaceVertices = new ArrayList<>(face.vertexCount());
+            for (var v = 0; v < face.vertexCount(); v++) {
+                Point3 vertex = face.getVertex(v);
+                int i = vertexIndex.find(vertex.getX(), vertex.getY(), vertex.getZ());
+                if (i < 0) {
+                    i = vertexIndex.add(vertex.getX(), vertex.getY(), vertex.getZ());
+                    vertices.add(vertex);
+                    vertexFaces.add(new ArrayList<>());
+                    vertexVertices.add(new ArrayList<>());
                 }
+                vertexFaces.get(i).add(f);
+                vertexVertices.get(i).add(v);
+                thisFaceVertices.add(i);
             }
+            faceVertices.add(thisFaceVertices);
         }
+        return new VertexData(vertexIndex, vertices, vertexFaces, vertexVertices, faceVertices);
     }
 
     public List<LineSegment3> edges() {
-        findEdges();
-        return edges;
+        return edgeData.get().edges;
     }
     public List<List<Integer>> edgeFaces() {
-        findEdges();
-        return edgeFaces;
+        return edgeData.get().edgeFaces;
     }
     public List<List<Integer>> edgeSides() {
-        findEdges();
-        return edgeSides;
+        return edgeData.get().edgeSides;
+    }
+    public List<List<Integer>> edgeVertices() {
+        return edgeData.get().edgeVertices;
     }
     public boolean oriented() {
-        findEdges();
-        return oriented;
-    }
-    private void findEdges() {
-        if (edges == null) {
-            oriented = true;
-            edges = new ArrayList<>();
-            edgeFaces = new ArrayList<>();
-            edgeSides = new ArrayList<>();
-            for (var f = 0; f < faceCount(); f++) {
-                Polygon3 face = getFace(f);
-                for (var v = 0; v < face.vertexCount(); v++) {
-                    LineSegment3 side = face.side(v);
-                    var found = false;
-                    for (var i = 0; i < edges.size(); i++) {
-                        if (side.identicalOrOpposite(edges.get(i))) {
-                            // side v of face f adjoins edge i
-                            // for j in 0..edgeFaces.get(i) {
-                            //   face f side v matches face edgeFaces.get(i).get(j) side edgeSides.get(i).get(j)
-                            //   and vice versa
-                            // }
-                            edgeFaces.get(i).add(f);
-                            edgeSides.get(i).add(v);
-                            if (side.identical(edges.get(i))) {
-                                oriented = false;
-                            }
-                            found = true;
-                            break;
-                        }
-                    }
-                    if (!found) {
-                        edges.add(side);
-                        // side v of face f adjoins this new edge
-                        ArrayList<Integer> x = new ArrayList<>();
-                        x.add(f);
-                        edgeFaces.add(x);
-                        ArrayList<Integer> y = new ArrayList<>();
-                        y.add(v);
-                        edgeSides.add(y);
+        return edgeData.get().oriented;
+    }
+
+    private static class EdgeData {
+        private final List<LineSegment3> edges;
+        private final List<List<Integer>> edgeFaces;
+        private final List<List<Integer>> edgeSides;
+        private final List<List<Integer>> edgeVertices;
+        private final boolean oriented;
+
+        private EdgeData(List<LineSegment3> edges, List<List<Integer>> edgeFaces, List<List<Integer>> edgeSides,
+                         List<List<Integer>> edgeVertices, boolean oriented) {
+            this.edges = List.copyOf(edges);
+            this.edgeFaces = immutable(edgeFaces);
+            this.edgeSides = immutable(edgeSides);
+            this.edgeVertices = immutable(edgeVertices);
+            this.oriented = oriented;
+        }
+    }
+
+    private EdgeData findEdges() {
+        List<List<Integer>> faceVertices = faceVertices();
+        var oriented = true;
+        List<LineSegment3> edges = new ArrayList<>();
+        List<List<Integer>> edgeFaces = new ArrayList<>();
+        List<List<Integer>> edgeSides = new ArrayList<>();
+        List<List<Integer>> edgeVertices = new ArrayList<>();
+        var edgeIndex = new LongIntHashMap(faceCount() * 2);
+        for (var f = 0; f < faceCount(); f++) {
+            List<Integer> thisFaceVertices = faceVertices.get(f);
+            for (var v = 0; v < thisFaceVertices.size(); v++) {
+                int vertex1 = thisFaceVertices.get(v);
+                int vertex2 = thisFaceVertices.get((v + 1) % thisFaceVertices.size());
+                int e = edgeIndex.putIfAbsent(edgeKey(vertex1, vertex2), edges.size(), -1);
+                if (e >= 0) {
+                    // side v of face f adjoins edge e
+                    // for j in 0..edgeFaces.get(e) {
+                    //   face f side v matches face edgeFaces.get(e).get(j) side edgeSides.get(e).get(j)
+                    //   and vice versa
+                    // }
+                    edgeFaces.get(e).add(f);
+                    edgeSides.get(e).add(v);
+                    if (edgeVertices.get(e).get(0) == vertex1) {
+                        oriented = false;
                     }
+                } else {
+                    edges.add(getFace(f).side(v));
+                    // side v of face f adjoins this new edge
+                    ArrayList<Integer> x = new ArrayList<>();
+                    x.add(f);
+                    edgeFaces.add(x);
+                    ArrayList<Integer> y = new ArrayList<>();
+                    y.add(v);
+                    edgeSides.add(y);
+                    edgeVertices.add(Arrays.asList(vertex1, vertex2));
                 }
             }
         }
+        return new EdgeData(edges, edgeFaces, edgeSides, edgeVertices, oriented);
     }
 
-    public List<List<Integer>> edgeVertices() {
-        if (edgeVertices == null) {
-            findVertices();
-            findEdges();
-            edgeVertices = new ArrayList<>();
-            for (int e = 0; e < edges.size(); e++) {
-                LineSegment3 edge = edges.get(e);
-                edgeVertices.add(new ArrayList<>());
-                Point3 p1 = edge.getPoint1();
-                for (int v = 0; v < vertices.size(); v++) {
-                    if (vertices.get(v).identical(p1)) {
-                        edgeVertices.get(e).add(v);
-                        break;
-                    }
-                }
-                Point3 p2 = edge.getPoint2();
-                for (int v = 0; v < vertices.size(); v++) {
-                    if (vertices.get(v).identical(p2)) {
-                        edgeVertices.get(e).add(v);
-                        break;
-                    }
-                }
-            }
-        }
-        return edgeVertices;
+    // unordered pair of vertex indices
+    private static long edgeKey(int vertex1, int vertex2) {
+        return vertex1 < vertex2
+                ? ((long)vertex1 << 32) | vertex2
+                : ((long)vertex2 << 32) | vertex1;
+    }
+
+    private static List<List<Integer>> immutable(List<List<Integer>> lists) {
+        return lists.stream().map(List::copyOf).collect(Collectors.toUnmodifiableList());
+    }
+
+    public HalfEdgeMesh halfEdgeMesh() {
+        return halfEdgeMesh.get();
+    }
+
+    /**
+     * @return The faces cut into triangles, made once and shared by all the triangle-mesh exporters.
+     */
+    public Triangulation triangulation() {
+        return triangulation.get();
     }
 
     // Validate
@@ -235,14 +264,16 @@ public class Polyhedron implements GeometryObject3<Polyhedron> {
             face.validate();
         }
         // each vertex has at least 3 faces
-        findVertices();
+        List<Point3> vertices = vertices();
+        List<List<Integer>> vertexFaces = vertexFaces();
         for (var v = 0; v < vertices.size(); v++) {
             if (vertexFaces.get(v).size() < 3) {
                 throw new InvalidVertexException(vertices.get(v), vertexFaces.get(v).size());
             }
         }
         // each side matches precisely one other on another face
-        findEdges();
+        List<LineSegment3> edges = edges();
+        List<List<Integer>> edgeFaces = edgeFaces();
         for (var v = 0; v < edges.size(); v++) {
             if (edgeFaces.get(v).size() != 2) {
                 throw new InvalidEdgeException(edges.get(v), edgeFaces.get(v).size());
@@ -258,290 +289,319 @@ public class Polyhedron implements GeometryObject3<Polyhedron> {
         }
     }
 
+    // faces as canonical cycles of welded vertex indices
+    private FaceIndex faceIndex() {
+        return faceIndex.get();
+    }
+    private FaceIndex findFaceIndex() {
+        var index = new FaceIndex(faceCount());
+        for (var face : faceVertices()) {
+            index.add(face.stream().mapToInt(Integer::intValue).toArray(), 0, face.size());
+        }
+        return index;
+    }
+
+    /**
+     * <p>Two polyhedra are identical if each face of one is identical or opposite to a different face
+     * of the other.</p>
+     * <p>The vertices of the other polyhedron's faces are looked up in this polyhedron's vertex index,
+     * and the resulting cycles of indices are matched against this polyhedron's faces by hash.</p>
+     */
     @Override
     public boolean identical(Polyhedron o) {
         if (faceCount() != o.faceCount()) {
             return false;
         }
+        FaceIndex index = faceIndex();
+        VertexIndex vertexIndex = vertexData.get().vertexIndex;
         var matched = new boolean[faceCount()];
+        var face = new int[8];
+        var canonical = new int[8];
         for (var f = 0; f < faceCount(); f++) {
-            Polygon3 face = getFace(f);
-            var match = false;
-            for (var f2 = 0; f2 < faceCount(); f2++) {
-                if (!matched[f2]) {
-                    if (face.identicalOrOpposite(o.getFace(f2))) {
-                        match = true;
-                        matched[f2] = true;
-                        break;
-                    }
+            Polygon3 otherFace = o.getFace(f);
+            var n = otherFace.vertexCount();
+            if (n > face.length) {
+                face = new int[n];
+                canonical = new int[n];
+            }
+            for (var v = 0; v < n; v++) {
+                Point3 vertex = otherFace.getVertex(v);
+                face[v] = vertexIndex.find(vertex.getX(), vertex.getY(), vertex.getZ());
+                if (face[v] < 0) {
+                    return false;
                 }
             }
-            if (!match) {
+            FaceIndex.canonicalise(face, 0, n, canonical, 0);
+            int match = index.find(canonical, n, matched);
+            if (match < 0) {
                 return false;
             }
+            matched[match] = true;
         }
         return true;
     }
 
-    public Point3 centroid() {
-        if (centroid == null) {
-            findVertices();
-            centroid = Point3.centroid(vertices);
+    /**
+     * <p>Whether a transformation maps this polyhedron onto itself.</p>
+     * <p>Each welded vertex is mapped through the transformation and looked up in the vertex index,
+     * then each face is mapped through the resulting vertex permutation and looked up in the face
+     * index. No points, polygons or polyhedra are created.</p>
+     */
+    public boolean isSymmetry(AffineTransformation3 t) {
+        FaceIndex index = faceIndex();
+        VertexIndex vertexIndex = vertexData.get().vertexIndex;
+        double m00 = t.get(0, 0), m01 = t.get(0, 1), m02 = t.get(0, 2), m03 = t.get(0, 3);
+        double m10 = t.get(1, 0), m11 = t.get(1, 1), m12 = t.get(1, 2), m13 = t.get(1, 3);
+        double m20 = t.get(2, 0), m21 = t.get(2, 1), m22 = t.get(2, 2), m23 = t.get(2, 3);
+
+        var image = new int[vertexIndex.size()];
+        for (var v = 0; v < image.length; v++) {
+            double x = vertexIndex.getX(v);
+            double y = vertexIndex.getY(v);
+            double z = vertexIndex.getZ(v);
+            image[v] = vertexIndex.find(
+                    m00 * x + m01 * y + m02 * z + m03,
+                    m10 * x + m11 * y + m12 * z + m13,
+                    m20 * x + m21 * y + m22 * z + m23);
+            if (image[v] < 0) {
+                return false;
+            }
+        }
+
+        var matched = new boolean[index.size()];
+        var face = new int[8];
+        var canonical = new int[8];
+        for (var f = 0; f < index.size(); f++) {
+            var n = index.faceDegree(f);
+            if (n > face.length) {
+                face = new int[n];
+                canonical = new int[n];
+            }
+            for (var i = 0; i < n; i++) {
+                face[i] = image[index.canonicalVertex(f, i)];
+            }
+            FaceIndex.canonicalise(face, 0, n, canonical, 0);
+            int match = index.find(canonical, n, matched);
+            if (match < 0) {
+                return false;
+            }
+            matched[match] = true;
         }
-        return centroid;
+        return true;
+    }
+
+    // build everything the symmetry tests read, so that they can run concurrently
+    private void prepareSymmetrySearch() {
+        vertexData.get();
+        faceIndex();
+        centroid();
+    }
+
+    // apply a function to each item, in the pool if there is one, keeping the order of the items
+    private static <T, R> List<R> evaluate(ForkJoinPool pool, List<T> items, Function<T, R> f) {
+        if (pool == null) {
+            return items.stream().map(f).collect(Collectors.toList());
+        }
+        try {
+            return pool.submit(() -> items.parallelStream().map(f).collect(Collectors.toList())).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException)e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    public Point3 centroid() {
+        return centroid.get();
     }
 
     // Symmetry
     public List<AffineTransformation3> symmetries() {
-        if (symmetries == null) {
-            symmetries = new ArrayList<>();
-            symmetries.add(new AffineTransformation3(new Identity3()));
-            symmetries.addAll(reflectionSymmetries());
-            symmetries.addAll(rotationSymmetries());
-            symmetries.addAll(rotationPlusReflectionSymmetries());
+        return symmetries.get();
+    }
+    // the group generated by the symmetries already found, which is all of them
+    private List<AffineTransformation3> findSymmetries() {
+        List<AffineTransformation3> generators = new ArrayList<>();
+        generators.addAll(reflectionSymmetries());
+        generators.addAll(rotationSymmetries());
+        generators.addAll(rotoreflectionSymmetries());
+        if (inversionSymmetry()) {
+            generators.add(new Inversion3(centroid()));
         }
-        return symmetries;
+        return List.copyOf(GroupClosure.affineClosure(generators));
     }
 
     public boolean inversionSymmetry() {
-        if (inversionSymmetry == null) {
-            inversionSymmetry = identical(invert(centroid()));
-        }
-        return inversionSymmetry;
+        return inversionSymmetry.get();
     }
 
     public List<Reflection3> reflectionSymmetries() {
-        if (reflectionSymmetries == null) {
-            reflectionSymmetries = new ArrayList<>();
-            // plane bisecting two vertices
-            findVertices();
-            List<Plane3> candidatePlanes = new ArrayList<>();
-            for (var v1 = 0; v1 < vertices.size(); v1++) {
-                for (var v2 = v1 + 1; v2 < vertices.size(); v2++) {
-                    try {
-                        Plane3 bisector = vertices.get(v1).bisectingPlane(vertices.get(v2));
-                        var match = false;
-                        for (var candidatePlane : candidatePlanes) {
-                            if (bisector.identicalOrOpposite(candidatePlane)) {
-                                match = true;
-                                break;
-                            }
-                        }
-                        if (!match) {
-                            candidatePlanes.add(bisector);
-                        }
-                    } catch (ZeroVectorException e) {
-                        // shouldn't happen
-                    }
-                }
-            }
-
-            for (var candidatePlane : candidatePlanes) {
-                Polyhedron reflection = reflect(candidatePlane);
-                if (identical(reflection)) {
-                    reflectionSymmetries.add(new Reflection3(candidatePlane));
+        return reflectionSymmetries(null);
+    }
+    /**
+     * <p>Find the reflection symmetries, generating and testing candidate planes in a pool.</p>
+     * @param pool The pool to use, or null to do everything in the calling thread.
+     */
+    public List<Reflection3> reflectionSymmetries(ForkJoinPool pool) {
+        return reflectionSymmetries.get(() -> findReflectionSymmetries(pool));
+    }
+    private List<Reflection3> findReflectionSymmetries(ForkJoinPool pool) {
+        prepareSymmetrySearch();
+        List<Point3> vertices = vertices();
+        // planes bisecting two vertices, which must be equally far from the centroid
+        var rows = IntStream.range(0, vertices.size()).boxed().collect(Collectors.toList());
+        var candidatePlanes = new ArrayList<Plane3>();
+        var tried = new VertexIndex();
+        for (var row : evaluate(pool, rows, this::bisectingPlanes)) {
+            for (var plane : row) {
+                if (addDirection(tried, plane.getNormal())) {
+                    candidatePlanes.add(plane);
                 }
             }
         }
-        return reflectionSymmetries;
-    }
-
-    // axes with 2-fold symmetry (order may actually be a multiple of 2)
-    private List<RotationalSymmetryAxis> twoFoldSymmetryAxes() {
-        findVertices();
-        // look for possible axes of 2-fold symmetry
-        List<RotationalSymmetryAxis> candidateAxes = new ArrayList<>();
-        var centre = Point3.centroid(vertices);
-        for (var p1 = 0; p1 < vertices.size(); p1++) {
-            Point3 point1 = vertices.get(p1);
-            double point1DistanceSquaredCentre = point1.distanceSquared(centre);
-            for (int p2 = p1 + 1; p2 < vertices.size(); p2++) {
-                Point3 point2 = vertices.get(p2);
-                double point2DistanceSquaredCentre = point2.distanceSquared(centre);
-                if (Maths.equal(point2DistanceSquaredCentre, point1DistanceSquaredCentre)) {
-                    try {
-                        var axis = new Line3(centre,point1.midpoint(point2));
-                        var match = false;
-                        for (var candidateAxis : candidateAxes) {
-                            if (axis.identicalOrOpposite(candidateAxis.getAxis())) {
-                                match = true;
-                                break;
-                            }
-                        }
-                        if (!match) {
-                            candidateAxes.add(new RotationalSymmetryAxis(axis,2));
-                        }
-                    } catch (IllegalArgumentException e) {
-                        // ignore
-                    }
-                }
+
+        List<Reflection3> reflections = new ArrayList<>();
+        for (var reflection : evaluate(pool, candidatePlanes, plane -> {
+            var reflection = new Reflection3(plane);
+            return isSymmetry(reflection) ? reflection : null;
+        })) {
+            if (reflection != null) {
+                reflections.add(reflection);
             }
         }
+        return List.copyOf(reflections);
+    }
 
-        return candidateAxes.stream().filter(r -> identical(rotate(r.getAxis(), Math.PI))).collect(Collectors.toList());
-    }
-
-    private List<RotationalSymmetryAxis> candidateThreeFoldSymmetryAxes() {
-        findVertices();
-        List<RotationalSymmetryAxis> candidateAxes;
-        // look for axes of symmetry of order 3 or more
-        // look for triplets of points
-        candidateAxes = new ArrayList<>();
-        var centre = Point3.centroid(vertices);
-        for (var p1 = 0; p1 < vertices.size(); p1++) {
-            if (vertices.size()>=80 && p1%10==0 && p1>0) System.out.println("..."+p1+"/"+vertices.size());
-            Point3 point1 = vertices.get(p1);
-            double point1DistanceSquaredCentre = point1.distanceSquared(centre);
-            for (int p2 = p1+1; p2 < vertices.size(); p2++) {
-                Point3 point2 = vertices.get(p2);
-                double point2DistanceSquaredCentre = point2.distanceSquared(centre);
-                if (Maths.equal(point2DistanceSquaredCentre, point1DistanceSquaredCentre)) {
-                    for (var p3 = p2+1; p3 < vertices.size(); p3++) {
-                        var point3 = vertices.get(p3);
-                        if (Maths.equal(point3.distanceSquared(centre), point1DistanceSquaredCentre)) {
-                            try {
-                                var normal = new Vector3(point1,point2).cross(new Vector3(point2,point3));
-                                var axis = new Line3(centre,normal);
-
-                                var plane = new Plane3(axis.getVector(),point1);
-                                int maxOrder = (int)vertices.stream().filter(plane::contains).count();
-
-                                var match = false;
-                                for (var candidateAxis : candidateAxes) {
-                                    if (axis.identicalOrOpposite(candidateAxis.getAxis())) {
-                                        if (maxOrder != candidateAxis.getOrder()) {
-                                            //System.out.println("max "+maxOrder+"->update "+candidateAxis.getOrder()+" to " + Maths.hcf(candidateAxis.getOrder(), maxOrder));
-                                            int hcf = Maths.hcf(candidateAxis.getOrder(), maxOrder);
-                                            candidateAxis.setOrder(hcf);
-                                        }
-                                        match = true;
-                                        break;
-                                    }
-                                }
-                                if (!match) {
-                                    candidateAxes.add(new RotationalSymmetryAxis(axis,maxOrder));
-                                }
-                            } catch (IllegalArgumentException e) {
-                                // means centre is the average of point1, point2 and point3
-                            }
-                        }
-                    }
+    // the distinct planes bisecting a vertex and each later vertex at the same distance from the centroid
+    private List<Plane3> bisectingPlanes(int v1) {
+        List<Point3> vertices = vertices();
+        Point3 centre = centroid();
+        List<Plane3> planes = new ArrayList<>();
+        var tried = new VertexIndex();
+        double radius = vertices.get(v1).distance(centre);
+        for (var v2 = v1 + 1; v2 < vertices.size(); v2++) {
+            if (Math.abs(vertices.get(v2).distance(centre) - radius) > 4 * Maths.ERROR_MARGIN) {
+                continue;
+            }
+            try {
+                Plane3 bisector = vertices.get(v1).bisectingPlane(vertices.get(v2));
+                if (addDirection(tried, bisector.getNormal())) {
+                    planes.add(bisector);
                 }
+            } catch (ZeroVectorException e) {
+                // shouldn't happen
             }
         }
+        return planes;
+    }
 
-        return candidateAxes.stream().filter(a -> a.getOrder() >=3).collect(Collectors.toList());
+    // planes and axes through the centroid are the same when their directions are identical or opposite
+    private static boolean addDirection(VertexIndex tried, Vector3 u) {
+        if (tried.find(u.getX(), u.getY(), u.getZ()) >= 0 || tried.find(-u.getX(), -u.getY(), -u.getZ()) >= 0) {
+            return false;
+        }
+        tried.add(u.getX(), u.getY(), u.getZ());
+        return true;
     }
 
     public List<RotationalSymmetryAxis> rotationAxes() {
-        if (rotationAxes == null) {
-            findVertices();
-
-            rotationAxes = new ArrayList<>();
-
-            List<RotationalSymmetryAxis> candidateThreeFoldAxes = candidateThreeFoldSymmetryAxes();
-            // check candidates for actual axes of symmetry
-            for (var r : candidateThreeFoldAxes) {
-                for (int divisor = r.getOrder(); divisor >= 3; divisor--) {
-                    if (r.getOrder() / divisor * divisor == r.getOrder()) {
-                        if (identical(rotate(r.getAxis(), Math.PI * 2 / divisor))) {
-                            rotationAxes.add(new RotationalSymmetryAxis(r.getAxis(), divisor));
-                            break;
-                        }
-                    }
+        return rotationAxes(null);
+    }
+    /**
+     * <p>Find the rotation axes, testing candidate axes in a pool.</p>
+     * @param pool The pool to use, or null to do everything in the calling thread.
+     */
+    public List<RotationalSymmetryAxis> rotationAxes(ForkJoinPool pool) {
+        return rotationAxes.get(() -> findRotationAxes(pool));
+    }
+    private List<RotationalSymmetryAxis> findRotationAxes(ForkJoinPool pool) {
+        prepareSymmetrySearch();
+        // check candidates for actual axes of symmetry, trying the highest possible order first
+        var orders = evaluate(pool, new SymmetryAxisDetector(this).candidateAxes(), r -> {
+            for (int divisor = r.getOrder(); divisor >= 2; divisor--) {
+                if (r.getOrder() % divisor == 0 && isSymmetry(new Rotation3(r.getAxis(), 2 * Math.PI / divisor))) {
+                    return new RotationalSymmetryAxis(r.getAxis(), divisor);
                 }
             }
-
-            // add 2-fold axes
-            List<RotationalSymmetryAxis> twoFoldAxes = twoFoldSymmetryAxes();
-            for (var r : twoFoldAxes) {
-                var match = false;
-                for (var s : rotationAxes) {
-                    if (s.getAxis().identicalOrOpposite(r.getAxis())) {
-                        match = true;
-                        break;
-                    }
-                }
-                if (!match) {
-                    rotationAxes.add(r);
-                }
+            return null;
+        });
+        List<RotationalSymmetryAxis> axes = new ArrayList<>();
+        var tried = new VertexIndex();
+        for (var r : orders) {
+            if (r != null && addDirection(tried, r.getAxis().getVector())) {
+                axes.add(r);
             }
         }
-        return rotationAxes;
+
+        // axes of order 3 or more first, then 2-fold axes
+        List<RotationalSymmetryAxis> sorted = new ArrayList<>();
+        axes.stream().filter(r -> r.getOrder() >= 3).forEach(sorted::add);
+        axes.stream().filter(r -> r.getOrder() == 2).forEach(sorted::add);
+        return List.copyOf(sorted);
     }
 
     public List<Rotation3> rotationSymmetries() {
-        if (rotationSymmetries == null) {
-            rotationSymmetries = new ArrayList<>();
-            for (var r : rotationAxes()) {
-                for (var i = 1; i < r.getOrder(); i++) {
-                    rotationSymmetries.add(new Rotation3(r.getAxis(), 2 * Math.PI * i / r.getOrder()));
-                }
+        return rotationSymmetries.get();
+    }
+    private List<Rotation3> findRotationSymmetries() {
+        List<Rotation3> rotationSymmetries = new ArrayList<>();
+        for (var r : rotationAxes()) {
+            for (var i = 1; i < r.getOrder(); i++) {
+                rotationSymmetries.add(new Rotation3(r.getAxis(), 2 * Math.PI * i / r.getOrder()));
             }
         }
-        return rotationSymmetries;
+        return List.copyOf(rotationSymmetries);
     }
 
     public List<RotoreflectionalSymmetryAxis> rotoreflectionAxes() {
-        if (rotoreflectionAxes == null) {
-            rotoreflectionAxes = new ArrayList<>();
-            var rotationalSymmetryAxes = rotationAxes();
-            for (var r : rotationalSymmetryAxes) {
-                try {
-                    if (identical(rotoreflect(r.getAxis(), Math.PI / r.getOrder(), centroid()))) {
-                        rotoreflectionAxes.add(new RotoreflectionalSymmetryAxis(r.getAxis(), 2 * r.getOrder(), centroid()));
-                    }
-                } catch (GeometryException e) {
-                    // can't happen
+        return rotoreflectionAxes(null);
+    }
+    /**
+     * <p>Find the rotoreflection axes, testing each rotation axis in a pool.</p>
+     * @param pool The pool to use, or null to do everything in the calling thread.
+     */
+    public List<RotoreflectionalSymmetryAxis> rotoreflectionAxes(ForkJoinPool pool) {
+        return rotoreflectionAxes.get(() -> findRotoreflectionAxes(pool));
+    }
+    private List<RotoreflectionalSymmetryAxis> findRotoreflectionAxes(ForkJoinPool pool) {
+        var rotationalSymmetryAxes = rotationAxes(pool);
+        List<RotoreflectionalSymmetryAxis> axes = new ArrayList<>();
+        for (var r : evaluate(pool, rotationalSymmetryAxes, r -> {
+            try {
+                if (isSymmetry(new Rotoreflection3(r.getAxis(), Math.PI / r.getOrder(), centroid()))) {
+                    return new RotoreflectionalSymmetryAxis(r.getAxis(), 2 * r.getOrder(), centroid());
                 }
+            } catch (GeometryException e) {
+                // can't happen
+            }
+            return null;
+        })) {
+            if (r != null) {
+                axes.add(r);
             }
         }
-        return rotoreflectionAxes;
+        return List.copyOf(axes);
     }
 
     public List<Rotoreflection3> rotoreflectionSymmetries() {
-        if (rotoreflectionSymmetries == null) {
-            rotoreflectionSymmetries = new ArrayList<>();
-            for (var r : rotoreflectionAxes()) {
-                for (var i = 1; i < r.getOrder(); i += 2) {
-                    try {
-                        rotoreflectionSymmetries.add(new Rotoreflection3(r.getAxis(), Math.PI * i / r.getOrder(), centroid()));
-                    } catch (GeometryException e) {
-                        // can't happen
-                    }
-                }
-            }
-        }
-        return rotoreflectionSymmetries;
+        return rotoreflectionSymmetries.get();
     }
-
-    private List<AffineTransformation3> rotationPlusReflectionSymmetries() {
-        List<AffineTransformation3> rotationPlusReflectionSymmetries = new ArrayList<>();
-
-        for (var rot : rotationSymmetries()) {
-            for (var ref : reflectionSymmetries()) {
-                AffineTransformation3 rotRef = rot.compose(ref);
-                var found = false;
-                for (var rr : rotationPlusReflectionSymmetries) {
-                    if (rotRef.identical(rr)) {
-                        found = true;
-                        break;
-                    }
-                }
-                if (!found) {
-                    for (var r : reflectionSymmetries()) {
-                        if (rotRef.identical(r)) {
-                            found = true;
-                            break;
-                        }
-                    }
-                    if (!found) {
-                        rotationPlusReflectionSymmetries.add(rotRef);
-                    }
+    private List<Rotoreflection3> findRotoreflectionSymmetries() {
+        List<Rotoreflection3> rotoreflectionSymmetries = new ArrayList<>();
+        for (var r : rotoreflectionAxes()) {
+            for (var i = 1; i < r.getOrder(); i += 2) {
+                try {
+                    rotoreflectionSymmetries.add(new Rotoreflection3(r.getAxis(), 2 * Math.PI * i / r.getOrder(), centroid()));
+                } catch (GeometryException e) {
+                    // can't happen
                 }
             }
         }
-        return rotationPlusReflectionSymmetries;
+        return List.copyOf(rotoreflectionSymmetries);
     }
 
     private class FaceEdge {
@@ -585,80 +645,43 @@ public class Polyhedron implements GeometryObject3<Polyhedron> {
     }
 
     public String objString() {
-        String s = "";
-        for (Point3 vertex : this.vertices()) {
-            s += "v " + vertex.getX() + " " + vertex.getY() + " " + vertex.getZ() + "\r\n";
-        }
-        for (Polygon3 face : this.faces) {
-            s += "f";
-            for (Point3 vertex : face.getVertices()) {
-                for (int v = 0; v < this.vertices().size(); v++) {
-                    if (vertex.identical(this.vertices.get(v))) {
-                        s += " " + (v+1);
-                        break;
-                    }
-                }
-            }
-            s += "\r\n";
+        var s = new StringWriter();
+        try (var writer = new ObjWriter(s)) {
+            writer.write(this);
+        } catch (IOException e) {
+            // can't happen
+            throw new UncheckedIOException(e);
         }
-        return s;
+        return s.toString();
     }
 
     public String objStringIndependentFaces() {
-        String s = "";
-        int totalVertices = 0;
-        for (var face : getFaces()) {
-            for (Point3 vertex : face.getVertices()) {
-                s += "v " + vertex.getX() + " " + vertex.getY() + " " + vertex.getZ() + "\r\n";
-            }
-            s += "f ";
-            for (int v = 0; v < face.getVertices().size(); v++) {
-                s += " " + ((totalVertices++) + 1);
-            }
-            s += "\r\n";
+        var s = new StringWriter();
+        try (var writer = new ObjWriter(s)) {
+            writer.writeIndependentFaces(this);
+        } catch (IOException e) {
+            // can't happen
+            throw new UncheckedIOException(e);
         }
-        return s;
+        return s.toString();
     }
 
     public void writeObjFile(String fileName) throws IOException {
-        String s = objString();
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(fileName + ".obj"))) {
-            writer.write(s);
-        }
+        ObjWriter.write(this, Path.of(fileName + ".obj"));
     }
 
     public void writeObjFileIndependentFaces(String fileName) throws IOException {
-        String s = objStringIndependentFaces();
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(fileName + ".obj"))) {
-            writer.write(s);
-        }
+        ObjWriter.writeIndependentFaces(this, Path.of(fileName + ".obj"));
     }
 
     public void writeFaceObjFiles(String fileName) throws IOException {
-        for (var v = 0; v < faceCount(); v++) {
-            String faceFileName = fileName + (v+1) + ".obj";
-            try (BufferedWriter writer = new BufferedWriter(new FileWriter(faceFileName))) {
-                writer.write(getFace(v).objString());
-            }
-        }
+        var file = Path.of(fileName).toAbsolutePath();
+        FaceObjWriter.writeFaces(this, file.getParent(), file.getFileName().toString());
     }
 
     public void writeFacePrismObjFiles(String fileName) throws IOException {
-        Point3 centre = centroid();
-        String s = objString();
-        this.writeObjFile(fileName);
-        for (var v = 0; v < faceCount(); v++) {
-            Polygon3 face1 = getFace(v).reverse();
-            Polygon3 face2 = null;
-            try {
-                face2 = face1.scale(centre,1.01);
-            } catch (GeometryException e) {
-                e.printStackTrace();
-            }
-            Polyhedron facePrism = StandardPolyhedra.prism(face1,face2);
-            String faceFileName = fileName + (v+1);
-            facePrism.writeObjFile(faceFileName);
-        }
+        var file = Path.of(fileName).toAbsolutePath();
+        FaceObjWriter.writeFacePrisms(this, file.getParent(), file.getFileName().toString());
     }
 
     @Override
@@ -676,20 +699,12 @@ public class Polyhedron implements GeometryObject3<Polyhedron> {
         return new Polyhedron(faces.stream().map(f -> f.translate(t)).collect(Collectors.toList()));
     }
 
-    private Boolean isFaceEquilateral;
     public boolean isFaceEquilateral() {
-        if (isFaceEquilateral == null) {
-            isFaceEquilateral = faces.stream().allMatch(Polygon3::isEquilateral);
-        }
-        return isFaceEquilateral;
+        return isFaceEquilateral.get();
     }
 
-    private Boolean isFaceEquiangular;
     public boolean isFaceEquiangular() {
-        if (isFaceEquiangular == null) {
-            isFaceEquiangular = faces.stream().allMatch(Polygon3::isEquiangular);
-        }
-        return isFaceEquiangular;
+        return isFaceEquiangular.get();
     }
 
     public boolean isFaceRegular() {
@@ -699,18 +714,18 @@ public class Polyhedron implements GeometryObject3<Polyhedron> {
     // build a polyhedron given its vertex coordinates
     public static Polyhedron coordinates(double[] data)
     {
-        short nVertices, nFaces, faceVertices;
+        int nVertices, nFaces, faceVertices;
         Point3[] vertex;
         double x, y, z;
-        short v;
+        int v;
         List<Polygon3> faces = new ArrayList<Polygon3>();
         //Polyhedron H =  new Polyhedron();
         Polygon3 G;
         double currentEdgeLength;
-        short ptr = 0;
+        int ptr = 0;
 
         // get the number of vertices
-        nVertices = (short)data[ptr++];
+        nVertices = (int)data[ptr++];
         vertex = new Point3[nVertices];
 
         // retrieve the vertices into array
@@ -723,17 +738,17 @@ public class Polyhedron implements GeometryObject3<Polyhedron> {
         }
 
         // get the number of faces
-        nFaces = (short)data[ptr++];
+        nFaces = (int)data[ptr++];
 
         // build each face and add to polyhedron
         for (int f = 0; f < nFaces; f++)
         {
-            faceVertices = (short)data[ptr++];
+            faceVertices = (int)data[ptr++];
             List<Point3> face = new ArrayList<>();
 
             for (v = 0; v < faceVertices; v++)
             {
-                face.add (vertex[(short)data[ptr++]]);
+                face.add (vertex[(int)data[ptr++]]);
             }
 
             faces.add(new Polygon3(face));
@@ -11,15 +11,62 @@ import com.sparrows.geometry.transformation.Translation3;
 import com.sparrows.geometry.utils.GeometryUtils;
 
 public abstract class StandardPolyhedra {
-    public static final Polyhedron TETRAHEDRON = StandardPolyhedra.regular(1);
-    public static final Polyhedron CUBE = StandardPolyhedra.regular(2);
-    public static final Polyhedron OCTAHEDRON = StandardPolyhedra.regular(3);
-    public static final Polyhedron DODECAHEDRON = StandardPolyhedra.regular(4);
-    public static final Polyhedron ICOSAHEDRON = StandardPolyhedra.regular(5);
-    public static final Polyhedron SMALL_STELLATED_DODECAHEDRON = StandardPolyhedra.regular(6);
-    public static final Polyhedron GREAT_STELLATED_DODECAHEDRON = StandardPolyhedra.regular(7);
-    public static final Polyhedron GREAT_DODECAHEDRON = StandardPolyhedra.regular(8);;
-    public static final Polyhedron GREAT_ICOSAHEDRON = StandardPolyhedra.regular(9);;
+    // each solid is built the first time it's asked for, when its holder class is initialised
+    private static class Tetrahedron {
+        private static final Polyhedron SOLID = regular(1);
+    }
+    private static class Cube {
+        private static final Polyhedron SOLID = regular(2);
+    }
+    private static class Octahedron {
+        private static final Polyhedron SOLID = regular(3);
+    }
+    private static class Dodecahedron {
+        private static final Polyhedron SOLID = regular(4);
+    }
+    private static class Icosahedron {
+        private static final Polyhedron SOLID = regular(5);
+    }
+    private static class SmallStellatedDodecahedron {
+        private static final Polyhedron SOLID = regular(6);
+    }
+    private static class GreatStellatedDodecahedron {
+        private static final Polyhedron SOLID = regular(7);
+    }
+    private static class GreatDodecahedron {
+        private static final Polyhedron SOLID = regular(8);
+    }
+    private static class GreatIcosahedron {
+        private static final Polyhedron SOLID = regular(9);
+    }
+
+    public static Polyhedron tetrahedron() {
+        return Tetrahedron.SOLID;
+    }
+    public static Polyhedron cube() {
+        return Cube.SOLID;
+    }
+    public static Polyhedron octahedron() {
+        return Octahedron.SOLID;
+    }
+    public static Polyhedron dodecahedron() {
+        return Dodecahedron.SOLID;
+    }
+    public static Polyhedron icosahedron() {
+        return Icosahedron.SOLID;
+    }
+    public static Polyhedron smallStellatedDodecahedron() {
+        return SmallStellatedDodecahedron.SOLID;
+    }
+    public static Polyhedron greatStellatedDodecahedron() {
+        return GreatStellatedDodecahedron.SOLID;
+    }
+    public static Polyhedron greatDodecahedron() {
+        return GreatDodecahedron.SOLID;
+    }
+    public static Polyhedron greatIcosahedron() {
+        return GreatIcosahedron.SOLID;
+    }
 
     public static Polyhedron tetrahedron(Point3 a, Point3 b, Point3 c, Point3 d) throws CoplanarPoints {
         return new Polyhedron (
@@ -0,0 +1,234 @@
+package com.sparrows.geometry.geometry3;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.sparrows.geometry.maths.Maths;
+import com.sparrows.geometry.transformation.RotationalSymmetryAxis;
+import com.sparrows.geometry.utils.LongIntHashMap;
+import com.sparrows.geometry.utils.VertexIndex;
+
+/**
+ * <p>Finds a small set of candidate rotation axes of a polyhedron.</p>
+ * <p>A symmetry fixes the centroid and permutes the vertices, keeping each vertex's distance from
+ * the centroid and the sizes of the faces meeting there. The vertices are divided into classes by
+ * those invariants, each a union of orbits, and candidates are generated from the smallest class
+ * which does not lie on one line through the centroid. If p is in that class and R is a rotation
+ * symmetry, either p is on the axis of R, or Rp is in the class too, and then:
+ * <ul>
+ * <li>for order 3 or more, the axis is normal to the plane of p, Rp and R²p</li>
+ * <li>for order 2, the axis passes through the midpoint of p and Rp, unless Rp is opposite p,
+ * in which case it is perpendicular to p and to a second vertex of the class</li>
+ * </ul>
+ * </p>
+ * <p>A rotation symmetry also commutes with the second moment tensor of the vertices, so its axis is
+ * an eigenvector of the tensor. Candidates failing that test are discarded, and each remaining one
+ * is given the highest order consistent with the sizes of some rings of the class around it.</p>
+ */
+class SymmetryAxisDetector {
+    private final Point3 centre;
+    private final double tolerance;
+    private final double[] r;
+    private final double[] moment = new double[9];
+    private final double momentTolerance;
+    private final int[] vertexClass;
+
+    SymmetryAxisDetector(Polyhedron h) {
+        List<Point3> vertices = h.vertices();
+        centre = h.centroid();
+        // identical points may differ by the error margin in each coordinate
+        tolerance = 4 * Maths.ERROR_MARGIN;
+        r = new double[3 * vertices.size()];
+        var radius = new double[vertices.size()];
+        double radiusSum = 0;
+        for (var v = 0; v < vertices.size(); v++) {
+            Point3 vertex = vertices.get(v);
+            r[3 * v] = vertex.getX() - centre.getX();
+            r[3 * v + 1] = vertex.getY() - centre.getY();
+            r[3 * v + 2] = vertex.getZ() - centre.getZ();
+            radius[v] = Math.sqrt(dot(v, v));
+            radiusSum += radius[v];
+            for (var i = 0; i < 3; i++) {
+                for (var j = 0; j < 3; j++) {
+                    moment[3 * i + j] += r[3 * v + i] * r[3 * v + j];
+                }
+            }
+        }
+        momentTolerance = 16 * Maths.ERROR_MARGIN * radiusSum;
+        vertexClass = smallestClass(h, radius);
+    }
+
+    /**
+     * @return Axes which may be rotation axes, each with an order of which any actual order is a divisor.
+     */
+    List<RotationalSymmetryAxis> candidateAxes() {
+        List<RotationalSymmetryAxis> axes = new ArrayList<>();
+        if (vertexClass == null) {
+            return axes;
+        }
+        var tried = new VertexIndex();
+
+        var p0 = vertexClass[0];
+        var p1 = vertexClass[1];
+        for (var q : vertexClass) {
+            if (crossLength(p0, q) > crossLength(p0, p1)) {
+                p1 = q;
+            }
+        }
+        consider(tried, axes, r[3 * p0], r[3 * p0 + 1], r[3 * p0 + 2], tolerance);
+        consider(tried, axes, r[3 * p1], r[3 * p1 + 1], r[3 * p1 + 2], tolerance);
+        consider(tried, axes,
+                r[3 * p0 + 1] * r[3 * p1 + 2] - r[3 * p0 + 2] * r[3 * p1 + 1],
+                r[3 * p0 + 2] * r[3 * p1] - r[3 * p0] * r[3 * p1 + 2],
+                r[3 * p0] * r[3 * p1 + 1] - r[3 * p0 + 1] * r[3 * p1],
+                0);
+
+        // order 2: through the midpoint of p and its image
+        for (var q : vertexClass) {
+            if (q != p0) {
+                consider(tried, axes, r[3 * p0] + r[3 * q], r[3 * p0 + 1] + r[3 * q + 1], r[3 * p0 + 2] + r[3 * q + 2], tolerance);
+            }
+            if (q != p1) {
+                consider(tried, axes, r[3 * p1] + r[3 * q], r[3 * p1 + 1] + r[3 * q + 1], r[3 * p1 + 2] + r[3 * q + 2], tolerance);
+            }
+        }
+
+        // order 3 or more: normal to p, Rp and R²p, which are equally spaced
+        var squares = new double[vertexClass.length];
+        var fromP0 = new double[vertexClass.length];
+        for (var i = 0; i < vertexClass.length; i++) {
+            squares[i] = dot(vertexClass[i], vertexClass[i]);
+            fromP0[i] = distance(p0, vertexClass[i]);
+        }
+        for (var i = 0; i < vertexClass.length; i++) {
+            double chord = fromP0[i];
+            if (chord <= 2 * tolerance) {
+                continue;
+            }
+            int q = vertexClass[i];
+            double qx = r[3 * q], qy = r[3 * q + 1], qz = r[3 * q + 2];
+            double min = Maths.square(chord - 2 * tolerance);
+            double max = Maths.square(chord + 2 * tolerance);
+            for (var j = 0; j < vertexClass.length; j++) {
+                int s = vertexClass[j];
+                double chordSquared = squares[i] + squares[j] - 2 * (qx * r[3 * s] + qy * r[3 * s + 1] + qz * r[3 * s + 2]);
+                if (chordSquared < min || chordSquared > max || j == i || fromP0[j] <= tolerance) {
+                    continue;
+                }
+                double ux = qx - r[3 * p0], uy = qy - r[3 * p0 + 1], uz = qz - r[3 * p0 + 2];
+                double vx = r[3 * s] - qx, vy = r[3 * s + 1] - qy, vz = r[3 * s + 2] - qz;
+                consider(tried, axes, uy * vz - uz * vy, uz * vx - ux * vz, ux * vy - uy * vx, tolerance * chord);
+            }
+        }
+        return axes;
+    }
+
+    private void consider(VertexIndex tried, List<RotationalSymmetryAxis> axes, double x, double y, double z, double minLength) {
+        double length = Math.sqrt(x * x + y * y + z * z);
+        if (length <= minLength || length == 0) {
+            return;
+        }
+        x /= length;
+        y /= length;
+        z /= length;
+        if (tried.find(x, y, z) >= 0 || tried.find(-x, -y, -z) >= 0) {
+            return;
+        }
+        tried.add(x, y, z);
+
+        // an axis must be an eigenvector of the second moment tensor
+        double mx = moment[0] * x + moment[1] * y + moment[2] * z;
+        double my = moment[3] * x + moment[4] * y + moment[5] * z;
+        double mz = moment[6] * x + moment[7] * y + moment[8] * z;
+        double lambda = mx * x + my * y + mz * z;
+        if (Math.sqrt(Maths.square(mx - lambda * x) + Maths.square(my - lambda * y) + Maths.square(mz - lambda * z)) > momentTolerance) {
+            return;
+        }
+
+        int maxOrder = ringOrder(x, y, z);
+        if (maxOrder >= 2) {
+            axes.add(new RotationalSymmetryAxis(new Line3(centre, new Vector3(x, y, z)), maxOrder));
+        }
+    }
+
+    // the highest common factor of the sizes of a few rings of the class around an axis
+    private int ringOrder(double x, double y, double z) {
+        var order = 0;
+        var rings = 0;
+        for (var i = 0; i < vertexClass.length && rings < 3 && order != 1; i++) {
+            int v = vertexClass[i];
+            double height = r[3 * v] * x + r[3 * v + 1] * y + r[3 * v + 2] * z;
+            if (Math.sqrt(Math.max(dot(v, v) - height * height, 0)) > tolerance) {
+                var ringSize = 0;
+                for (var w : vertexClass) {
+                    if (Math.abs(r[3 * w] * x + r[3 * w + 1] * y + r[3 * w + 2] * z - height) <= tolerance) {
+                        ringSize++;
+                    }
+                }
+                order = Maths.hcf(order, ringSize);
+                rings++;
+            }
+        }
+        return order;
+    }
+
+    // vertices grouped by distance from the centre and the sizes of their faces
+    private int[] smallestClass(Polyhedron h, double[] radius) {
+        var byRadius = new Integer[radius.length];
+        for (var v = 0; v < radius.length; v++) {
+            byRadius[v] = v;
+        }
+        Arrays.sort(byRadius, (a, b) -> Double.compare(radius[a], radius[b]));
+
+        var classNumbers = new LongIntHashMap();
+        List<List<Integer>> classes = new ArrayList<>();
+        var shell = 0;
+        for (var i = 0; i < byRadius.length; i++) {
+            int v = byRadius[i];
+            if (i > 0 && radius[v] - radius[byRadius[i - 1]] > tolerance) {
+                shell++;
+            }
+            if (radius[v] <= tolerance) {
+                continue;
+            }
+            var faceSizes = h.vertexFaces().get(v).stream().mapToInt(f -> h.getFace(f).vertexCount()).sorted().toArray();
+            long key = shell;
+            for (var size : faceSizes) {
+                key = key * 0x9E3779B97F4A7C15L + size;
+            }
+            int o = classNumbers.putIfAbsent(key, classes.size(), -1);
+            if (o < 0) {
+                o = classes.size();
+                classes.add(new ArrayList<>());
+            }
+            classes.get(o).add(v);
+        }
+
+        List<Integer> smallest = null;
+        for (var o : classes) {
+            if ((smallest == null || o.size() < smallest.size()) && !collinear(o)) {
+                smallest = o;
+            }
+        }
+        return smallest == null ? null : smallest.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private boolean collinear(List<Integer> vertices) {
+        int first = vertices.get(0);
+        // distance of each vertex from the line through the centre and the first
+        return vertices.stream().allMatch(v -> crossLength(first, v) <= tolerance * Math.sqrt(dot(first, first)));
+    }
+
+    private double dot(int v1, int v2) {
+        return r[3 * v1] * r[3 * v2] + r[3 * v1 + 1] * r[3 * v2 + 1] + r[3 * v1 + 2] * r[3 * v2 + 2];
+    }
+
+    private double crossLength(int v1, int v2) {
+        return Math.sqrt(Math.max(dot(v1, v1) * dot(v2, v2) - Maths.square(dot(v1, v2)), 0));
+    }
+
+    private double distance(int v1, int v2) {
+        return Math.sqrt(Math.max(dot(v1, v1) + dot(v2, v2) - 2 * dot(v1, v2), 0));
+    }
+}
@@ -0,0 +1,245 @@
+package com.sparrows.geometry.geometry3;
+
+import java.util.Arrays;
+
+import com.sparrows.geometry.maths.Maths;
+
+/**
+ * <p>The faces of a mesh cut into triangles, held in primitive arrays ready for exporting.</p>
+ * <p>The triangles share the welded vertices of the mesh. A convex face is fanned from its first vertex and any
+ * other simple face is cut by ear clipping, neither adding vertices. A star face, such as a pentagram, winds
+ * round more than once, so it's fanned from its centroid instead, which is added as a new vertex after the
+ * vertices of the mesh. Triangles keep the orientation of their faces.</p>
+ * <p>Every triangle has the unit normal of its face, by Newell's method, so the triangles of a face all agree
+ * even where some are very thin.</p>
+ */
+public final class Triangulation {
+    private final int meshVertexCount;
+    private final int faceCount;
+    private double[] coordinates;
+    private int vertexCount;
+    private int[] triangles;
+    private int triangleCount;
+    private int[] triangleFace;
+    private final double[] faceNormals;
+
+    // Constructors
+    public Triangulation(HalfEdgeMesh mesh) {
+        meshVertexCount = mesh.vertexCount();
+        faceCount = mesh.faceCount();
+        coordinates = new double[3 * meshVertexCount];
+        for (var v = 0; v < meshVertexCount; v++) {
+            coordinates[3 * v] = mesh.getX(v);
+            coordinates[3 * v + 1] = mesh.getY(v);
+            coordinates[3 * v + 2] = mesh.getZ(v);
+        }
+        vertexCount = meshVertexCount;
+        var capacity = mesh.halfEdgeCount() - 2 * faceCount;
+        triangles = new int[3 * capacity];
+        triangleFace = new int[capacity];
+        faceNormals = new double[3 * faceCount];
+
+        var face = new int[8];
+        var u = new double[8];
+        var w = new double[8];
+        for (var f = 0; f < faceCount; f++) {
+            var n = mesh.faceDegree(f);
+            if (face.length < n) {
+                face = new int[2 * n];
+                u = new double[2 * n];
+                w = new double[2 * n];
+            }
+            for (var i = 0; i < n; i++) {
+                face[i] = mesh.faceVertex(f, i);
+            }
+            normal(f, face, n);
+            if (n == 3) {
+                addTriangle(face[0], face[1], face[2], f);
+                continue;
+            }
+
+            project(f, face, n, u, w);
+            var turning = 0.0;
+            var convex = true;
+            for (var i = 0; i < n; i++) {
+                var h = (i + n - 1) % n;
+                var j = (i + 1) % n;
+                double u1 = u[i] - u[h], w1 = w[i] - w[h];
+                double u2 = u[j] - u[i], w2 = w[j] - w[i];
+                var cross = u1 * w2 - w1 * u2;
+                turning += Math.atan2(cross, u1 * u2 + w1 * w2);
+                convex &= cross > -Maths.ERROR_MARGIN;
+            }
+            var density = (int) Math.round(Math.abs(turning) / (2 * Math.PI));
+            if (density == 1 && convex) {
+                for (var i = 1; i < n - 1; i++) {
+                    addTriangle(face[0], face[i], face[i + 1], f);
+                }
+            } else if (density == 1) {
+                clipEars(face, n, u, w, f);
+            } else {
+                var centre = addCentroid(face, n);
+                for (var i = 0; i < n; i++) {
+                    addTriangle(centre, face[i], face[(i + 1) % n], f);
+                }
+            }
+        }
+        coordinates = Arrays.copyOf(coordinates, 3 * vertexCount);
+        triangles = Arrays.copyOf(triangles, 3 * triangleCount);
+        triangleFace = Arrays.copyOf(triangleFace, triangleCount);
+    }
+
+    // Newell's method, which gives the winding-weighted area of any polygon, star or not
+    private void normal(int f, int[] face, int n) {
+        double x = 0, y = 0, z = 0;
+        for (var i = 0; i < n; i++) {
+            int a = 3 * face[i], b = 3 * face[(i + 1) % n];
+            x += (coordinates[a + 1] - coordinates[b + 1]) * (coordinates[a + 2] + coordinates[b + 2]);
+            y += (coordinates[a + 2] - coordinates[b + 2]) * (coordinates[a] + coordinates[b]);
+            z += (coordinates[a] - coordinates[b]) * (coordinates[a + 1] + coordinates[b + 1]);
+        }
+        var length = Math.sqrt(x * x + y * y + z * z);
+        if (length > 0) {
+            faceNormals[3 * f] = x / length;
+            faceNormals[3 * f + 1] = y / length;
+            faceNormals[3 * f + 2] = z / length;
+        }
+    }
+
+    // drop the largest component of the normal, keeping the face anticlockwise in the plane
+    private void project(int f, int[] face, int n, double[] u, double[] w) {
+        double nx = Math.abs(faceNormals[3 * f]), ny = Math.abs(faceNormals[3 * f + 1]), nz = Math.abs(faceNormals[3 * f + 2]);
+        var drop = nx >= ny && nx >= nz ? 0 : ny >= nz ? 1 : 2;
+        var first = (drop + 1) % 3;
+        var second = (drop + 2) % 3;
+        if (faceNormals[3 * f + drop] < 0) {
+            var t = first;
+            first = second;
+            second = t;
+        }
+        for (var i = 0; i < n; i++) {
+            u[i] = coordinates[3 * face[i] + first];
+            w[i] = coordinates[3 * face[i] + second];
+        }
+    }
+
+    private void clipEars(int[] face, int n, double[] u, double[] w, int f) {
+        var next = new int[n];
+        var previous = new int[n];
+        for (var i = 0; i < n; i++) {
+            next[i] = (i + 1) % n;
+            previous[i] = (i + n - 1) % n;
+        }
+        var remaining = n;
+        var i = 0;
+        var tried = 0;
+        while (remaining > 3) {
+            if (isEar(previous[i], i, next[i], next, u, w)) {
+                addTriangle(face[previous[i]], face[i], face[next[i]], f);
+                next[previous[i]] = next[i];
+                previous[next[i]] = previous[i];
+                i = previous[i];
+                remaining--;
+                tried = 0;
+            } else if (++tried > remaining) {
+                // only rounding can leave no ear, and then any fan of what's left will do
+                break;
+            } else {
+                i = next[i];
+            }
+        }
+        for (var j = next[i]; next[j] != i; j = next[j]) {
+            addTriangle(face[i], face[j], face[next[j]], f);
+        }
+    }
+
+    private static boolean isEar(int a, int b, int c, int[] next, double[] u, double[] w) {
+        if (cross(u, w, a, b, c) <= Maths.ERROR_MARGIN * Maths.ERROR_MARGIN) {
+            return false;
+        }
+        for (var p = next[c]; p != a; p = next[p]) {
+            if (cross(u, w, a, b, p) >= 0 && cross(u, w, b, c, p) >= 0 && cross(u, w, c, a, p) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static double cross(double[] u, double[] w, int a, int b, int c) {
+        return (u[b] - u[a]) * (w[c] - w[a]) - (w[b] - w[a]) * (u[c] - u[a]);
+    }
+
+    private int addCentroid(int[] face, int n) {
+        double x = 0, y = 0, z = 0;
+        for (var i = 0; i < n; i++) {
+            x += coordinates[3 * face[i]];
+            y += coordinates[3 * face[i] + 1];
+            z += coordinates[3 * face[i] + 2];
+        }
+        if (3 * vertexCount == coordinates.length) {
+            coordinates = Arrays.copyOf(coordinates, 2 * coordinates.length + 3);
+        }
+        coordinates[3 * vertexCount] = x / n;
+        coordinates[3 * vertexCount + 1] = y / n;
+        coordinates[3 * vertexCount + 2] = z / n;
+        return vertexCount++;
+    }
+
+    private void addTriangle(int a, int b, int c, int f) {
+        if (triangleCount == triangleFace.length) {
+            triangles = Arrays.copyOf(triangles, 6 * triangleCount + 3);
+            triangleFace = Arrays.copyOf(triangleFace, 2 * triangleCount + 1);
+        }
+        triangles[3 * triangleCount] = a;
+        triangles[3 * triangleCount + 1] = b;
+        triangles[3 * triangleCount + 2] = c;
+        triangleFace[triangleCount++] = f;
+    }
+
+    // Getters
+    /**
+     * @return The number of vertices, including the centres added for star faces.
+     */
+    public int vertexCount() {
+        return vertexCount;
+    }
+    /**
+     * @return The number of vertices of the mesh, which come first.
+     */
+    public int meshVertexCount() {
+        return meshVertexCount;
+    }
+    public int faceCount() {
+        return faceCount;
+    }
+    public int triangleCount() {
+        return triangleCount;
+    }
+
+    public double getX(int v) {
+        return coordinates[3 * v];
+    }
+    public double getY(int v) {
+        return coordinates[3 * v + 1];
+    }
+    public double getZ(int v) {
+        return coordinates[3 * v + 2];
+    }
+
+    public int triangleVertex(int t, int i) {
+        return triangles[3 * t + i];
+    }
+    public int triangleFace(int t) {
+        return triangleFace[t];
+    }
+
+    public double normalX(int f) {
+        return faceNormals[3 * f];
+    }
+    public double normalY(int f) {
+        return faceNormals[3 * f + 1];
+    }
+    public double normalZ(int f) {
+        return faceNormals[3 * f + 2];
+    }
+}
@@ -166,7 +166,10 @@ public class Vector3 implements GeometryObject3<Vector3> {
 
     @Override
     public Vector3 affineTransform(AffineTransformation3 t) {
-        return linearTransform(t.linearTransformation());
+        return new Vector3(
+                t.get(0,0) * x + t.get(0,1) * y + t.get(0,2) * z,
+                t.get(1,0) * x + t.get(1,1) * y + t.get(1,2) * z,
+                t.get(2,0) * x + t.get(2,1) * y + t.get(2,2) * z);
     }
 
     @Override
@@ -8,11 +8,11 @@ import com.sparrows.geometry.maths.Range;
 import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
 import java.awt.image.RenderedImage;
 import java.io.File;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.stream.Collectors;
+import java.util.Arrays;
 
 public class GeoImage extends BufferedImage {
     int pixelWidth;
@@ -83,7 +83,7 @@ public class GeoImage extends BufferedImage {
         Polygon2 polygon2 = polygon.project2D();
         Range yRange = yRange(polygon2);
 
-        for (int pixelY = 0; pixelY < getWidth(); pixelY++) {
+        for (int pixelY = 0; pixelY < getHeight(); pixelY++) {
             double y = convertPixelYToY(pixelY);
             if (y >= yRange.getStart() && y <= yRange.getEnd()) {
                 Range xRange = convexIntersection(polygon2,y);
@@ -146,53 +146,159 @@ public class GeoImage extends BufferedImage {
         }
     }
 
+    /**
+     * <p>Draw the faces of a polyhedron as seen from above, each in its colour dimmed by the angle it makes with
+     * the view, hiding whatever is behind them.</p>
+     * <p>Each face is filled a scanline at a time from a table of its edges, straight into the raster, and a depth
+     * buffer keeps the nearest face at each pixel. Pixels are filled exactly as {@link Polygon#contains(Point)}
+     * fills them, by the even-odd rule, so faces are drawn as they always were.</p>
+     * @param oriented Only draw the faces facing up.
+     */
     public void drawConcavePolyhedron(Polyhedron polyhedron, java.util.List<Color> colours, boolean oriented) {
-        var pixelPolygons = polyhedron.getFaces().stream().
-                map(Polygon3::project2D).
-                map(this::convertPolygon2ToPolygon).
-                collect(Collectors.toList());
-        var planes = polyhedron.getFaces().stream().map(Polygon3::plane).collect(Collectors.toList());
-        var normals = planes.stream().map(Plane3::getNormal).collect(Collectors.toList());
-        var dots = normals.stream().map(x -> x.dot(Vector3.Z_UNIT)).collect(Collectors.toList());
-        var faceRGBs = new ArrayList<Integer>();
-        for (int i = 0; i < polyhedron.faceCount(); i++) {
-            faceRGBs.add(dimColour(colours.get(i),Math.abs(dots.get(i))).getRGB());
+        int[] pixels = ((DataBufferInt) getRaster().getDataBuffer()).getData();
+        var depth = new double[pixelWidth * pixelHeight];
+        Arrays.fill(depth, Double.NEGATIVE_INFINITY);
+        var columnX = new double[pixelWidth];
+        for (var pixelX = 0; pixelX < pixelWidth; pixelX++) {
+            columnX[pixelX] = convertPixelXToX(pixelX);
         }
-        // hx + jy + kz = d
-        // z = (d - hx - kz)/k
-        for (int pixelX = 0; pixelX < getWidth(); pixelX++) {
-            double x = convertPixelXToX(pixelX);
-            double y = convertPixelYToY(0);
-            for (int pixelY = 0; pixelY < getWidth(); pixelY++) {
-                Point pixelPoint = new Point(pixelX,pixelY);
-                boolean found = false;
-                double maxZ = 0;
-                int nearestFace = 0;
-                for (int face = 0; face < pixelPolygons.size(); face++) {
-                    if (!oriented || dots.get(face) > 0) {
-                        if (pixelPolygons.get(face).contains(pixelPoint)) {
-                            double z =
-                                    (planes.get(face).getDistanceOrigin() -
-                                            normals.get(face).getX() * x -
-                                            normals.get(face).getY() * y) / normals.get(face).getZ();
-                            if (!found) {
-                                found = true;
-                                maxZ = z;
-                                nearestFace = face;
-                            } else {
-                                if (z > maxZ) {
-                                    maxZ = z;
-                                    nearestFace = face;
-                                }
-                            }
+        var rowY = new double[pixelHeight];
+        var y = convertPixelYToY(0);
+        for (var pixelY = 0; pixelY < pixelHeight; pixelY++) {
+            rowY[pixelY] = y;
+            y -= height / (pixelHeight-1);
+        }
+
+        var edges = new EdgeTable();
+        var crossings = new int[16];
+        for (var face = 0; face < polyhedron.faceCount(); face++) {
+            Polygon3 polygon = polyhedron.getFace(face);
+            Plane3 plane = polygon.plane();
+            Vector3 normal = plane.getNormal();
+            double dot = normal.dot(Vector3.Z_UNIT);
+            // a face on edge covers no area
+            if (oriented && dot <= 0 || normal.getZ() == 0) {
+                continue;
+            }
+            int rgb = dimColour(colours.get(face),Math.abs(dot)).getRGB() & 0xFFFFFF;
+            // hx + jy + kz = d
+            // z = (d - hx - jy)/k
+            double d = plane.getDistanceOrigin(), h = normal.getX(), j = normal.getY(), k = normal.getZ();
+
+            edges.set(polygon);
+            if (crossings.length < edges.size()) {
+                crossings = new int[edges.size()];
+            }
+            var lastRow = Math.min(edges.bottom(), pixelHeight);
+            for (var pixelY = Math.max(edges.top(), 0); pixelY < lastRow; pixelY++) {
+                var count = edges.crossings(pixelY, crossings);
+                var row = pixelY * pixelWidth;
+                for (var c = 0; c + 1 < count; c += 2) {
+                    var end = Math.min(crossings[c + 1], pixelWidth);
+                    for (var pixelX = Math.max(crossings[c], 0); pixelX < end; pixelX++) {
+                        double z = (d - h * columnX[pixelX] - j * rowY[pixelY]) / k;
+                        if (z > depth[row + pixelX]) {
+                            depth[row + pixelX] = z;
+                            pixels[row + pixelX] = rgb;
                         }
                     }
                 }
-                if (found) {
-                    setRGB(pixelX,pixelY,faceRGBs.get(nearestFace));
+            }
+        }
+    }
+
+    /*
+     * The edges of a polygon in pixels, for filling it a row at a time. An edge crosses the rows from its upper
+     * end down to, but not including, its lower end, so horizontal edges cross none. The edges crossing the
+     * current row are kept active as the rows go down.
+     */
+    private class EdgeTable {
+        private int[] upperX = new int[8];
+        private int[] upperY = new int[8];
+        private int[] lowerX = new int[8];
+        private int[] lowerY = new int[8];
+        private long[] byTop = new long[8];
+        private int[] active = new int[8];
+        private int size;
+        private int activeCount;
+        private int added;
+        private int row;
+
+        void set(Polygon3 polygon) {
+            var n = polygon.vertexCount();
+            if (upperX.length < n) {
+                upperX = new int[n];
+                upperY = new int[n];
+                lowerX = new int[n];
+                lowerY = new int[n];
+                byTop = new long[n];
+                active = new int[n];
+            }
+            size = 0;
+            Point3 last = polygon.getVertex(n - 1);
+            int lastX = pixelX(last.getX()), lastY = pixelY(last.getY());
+            for (var v = 0; v < n; v++) {
+                Point3 vertex = polygon.getVertex(v);
+                int x = pixelX(vertex.getX()), y = pixelY(vertex.getY());
+                if (y != lastY) {
+                    var upper = y < lastY;
+                    upperX[size] = upper ? x : lastX;
+                    upperY[size] = upper ? y : lastY;
+                    lowerX[size] = upper ? lastX : x;
+                    lowerY[size] = upper ? lastY : y;
+                    byTop[size] = ((long) upperY[size] << 32) | size;
+                    size++;
+                }
+                lastX = x;
+                lastY = y;
+            }
+            Arrays.sort(byTop, 0, size);
+            activeCount = 0;
+            added = 0;
+            row = Integer.MIN_VALUE;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int top() {
+            return size == 0 ? 0 : upperY[(int) byTop[0]];
+        }
+
+        int bottom() {
+            var bottom = 0;
+            for (var e = 0; e < size; e++) {
+                bottom = Math.max(bottom, lowerY[e]);
+            }
+            return bottom;
+        }
+
+        /*
+         * The columns where the edges cross a row, in order, rows being asked for from the top down. A pixel is
+         * inside the polygon if an odd number of crossings are to its right, as for java.awt.Polygon, which
+         * measures each crossing from the upper end of its edge.
+         */
+        int crossings(int pixelY, int[] columns) {
+            if (pixelY < row) {
+                throw new IllegalArgumentException("Rows must be filled from the top down.");
+            }
+            row = pixelY;
+            while (added < size && (int) (byTop[added] >> 32) <= pixelY) {
+                active[activeCount++] = (int) byTop[added++];
+            }
+            var count = 0;
+            for (var a = 0; a < activeCount; a++) {
+                var e = active[a];
+                if (lowerY[e] <= pixelY) {
+                    active[a--] = active[--activeCount];
+                    continue;
                 }
-                y -= height / (pixelHeight-1);
+                double t = (double) (pixelY - upperY[e]) / (lowerY[e] - upperY[e]) * (lowerX[e] - upperX[e]);
+                columns[count++] = upperX[e] + (int) Math.ceil(t);
             }
+            Arrays.sort(columns, 0, count);
+            return count;
         }
     }
 
@@ -218,10 +324,15 @@ public class GeoImage extends BufferedImage {
     }
 
     private Point convertCoordinatesToPixels(Point2 p) {
-        double pixelX = (p.getX() - left) * (pixelWidth-1) / width;
-        double pixelY = (p.getY() - bottom) * (pixelHeight-1) / height;
-        pixelY = pixelHeight-1-pixelY;
-        return new Point((int)pixelX,(int)pixelY);
+        return new Point(pixelX(p.getX()),pixelY(p.getY()));
+    }
+
+    private int pixelX(double x) {
+        return (int)((x - left) * (pixelWidth-1) / width);
+    }
+
+    private int pixelY(double y) {
+        return (int)(pixelHeight-1-(y - bottom) * (pixelHeight-1) / height);
     }
 
     private int convertXToPixelX(double x) {
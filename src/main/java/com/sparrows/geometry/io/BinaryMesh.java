@@ -0,0 +1,90 @@
+package com.sparrows.geometry.io;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.sparrows.geometry.exception.GeometryException;
+import com.sparrows.geometry.geometry3.HalfEdgeMesh;
+import com.sparrows.geometry.geometry3.PointSymmetryGroup3;
+import com.sparrows.geometry.geometry3.Polyhedron;
+import com.sparrows.geometry.spherical.SphericalPoint;
+import com.sparrows.geometry.spherical.SphericalPolygon;
+import com.sparrows.geometry.spherical.SphericalPolyhedron;
+
+/**
+ * <p>A polyhedron read from the compact binary format of {@link BinaryMeshWriter}.</p>
+ * <p>A file holds any number of records, each of which is:</p>
+ * <ul>
+ *     <li>the magic number "GEOM", a version byte, and a byte of flags saying whether the polyhedron is
+ *     spherical, whether its coordinates are quantised, and whether its symmetry group follows;</li>
+ *     <li>the length of the body, as an unsigned varint, then the body compressed with deflate, holding:</li>
+ *     <li>the vertex and face counts, as unsigned varints;</li>
+ *     <li>the coordinates: either doubles, or the quantisation step as a double followed by each coordinate
+ *     as a multiple of the step, less the same coordinate of the previous vertex, as a zigzag varint;</li>
+ *     <li>for each face, its vertex count as a varint, then each vertex index less the previous index
+ *     written, as a zigzag varint;</li>
+ *     <li>optionally, the name of the point symmetry group, e.g. "Ih", as a varint length and ASCII.</li>
+ * </ul>
+ * <p>Coordinates are quantised to a step of 1/16 of {@link com.sparrows.geometry.maths.Maths#ERROR_MARGIN}, so
+ * each quantised vertex is identical to the vertex written. Welded vertices are written once and faces refer to
+ * them by index, so neighbouring indices are close and their differences are usually a single byte. The
+ * symmetry of most polyhedra means the same coordinate differences recur, which deflate takes advantage of.</p>
+ */
+public final class BinaryMesh {
+    static final int MAGIC = 0x47454F4D;
+    static final int VERSION = 1;
+    static final int SPHERICAL = 1;
+    static final int QUANTISED = 2;
+    static final int SYMMETRY_GROUP = 4;
+
+    private final HalfEdgeMesh mesh;
+    private final boolean spherical;
+    private final PointSymmetryGroup3 symmetryGroup;
+
+    BinaryMesh(HalfEdgeMesh mesh, boolean spherical, PointSymmetryGroup3 symmetryGroup) {
+        this.mesh = mesh;
+        this.spherical = spherical;
+        this.symmetryGroup = symmetryGroup;
+    }
+
+    public HalfEdgeMesh getMesh() {
+        return mesh;
+    }
+
+    /**
+     * @return Whether a spherical polyhedron was written.
+     */
+    public boolean isSpherical() {
+        return spherical;
+    }
+
+    /**
+     * @return The symmetry group written with the polyhedron, or null if there wasn't one.
+     */
+    public PointSymmetryGroup3 getSymmetryGroup() {
+        return symmetryGroup;
+    }
+
+    public Polyhedron toPolyhedron() {
+        return mesh.toPolyhedron();
+    }
+
+    public SphericalPolyhedron toSphericalPolyhedron() throws GeometryException {
+        var points = new SphericalPoint[mesh.vertexCount()];
+        for (var v = 0; v < points.length; v++) {
+            // quantised coordinates are put back on the sphere
+            double x = mesh.getX(v), y = mesh.getY(v), z = mesh.getZ(v);
+            var norm = Math.sqrt(x * x + y * y + z * z);
+            points[v] = new SphericalPoint(x / norm, y / norm, z / norm);
+        }
+        List<SphericalPolygon> faces = new ArrayList<>(mesh.faceCount());
+        for (var f = 0; f < mesh.faceCount(); f++) {
+            List<SphericalPoint> vertices = new ArrayList<>(mesh.faceDegree(f));
+            for (var i = 0; i < mesh.faceDegree(f); i++) {
+                vertices.add(points[mesh.faceVertex(f, i)]);
+            }
+            faces.add(new SphericalPolygon(vertices));
+        }
+        return new SphericalPolyhedron(faces);
+    }
+}
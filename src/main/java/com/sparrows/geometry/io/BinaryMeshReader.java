@@ -0,0 +1,182 @@
+package com.sparrows.geometry.io;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import com.sparrows.geometry.exception.InvalidMeshFile;
+import com.sparrows.geometry.exception.NotAPointSymmetry;
+import com.sparrows.geometry.geometry3.PointSymmetryGroup3;
+
+/**
+ * <p>Reads the records written by {@link BinaryMeshWriter}, in order.</p>
+ */
+public class BinaryMeshReader implements Closeable {
+    private static final int CHUNK_SIZE = 8192;
+
+    private final DataInputStream in;
+
+    public BinaryMeshReader(InputStream in) {
+        this.in = new DataInputStream(new BufferedInputStream(in));
+    }
+
+    /**
+     * @return The next polyhedron, or null if there are no more.
+     */
+    public BinaryMesh read() throws IOException {
+        int first = in.read();
+        if (first < 0) {
+            return null;
+        }
+        int magic = (first << 24) | (in.readUnsignedByte() << 16) | in.readUnsignedShort();
+        if (magic != BinaryMesh.MAGIC) {
+            throw new InvalidMeshFile("Not a binary mesh.");
+        }
+        int version = in.readUnsignedByte();
+        if (version != BinaryMesh.VERSION) {
+            throw new InvalidMeshFile("Unsupported binary mesh version " + version + ".");
+        }
+        int flags = in.readUnsignedByte();
+        var bodySize = readCount(in);
+        var compressedSize = readCount(in);
+        // deflate can't do better than about 1000 to 1, so anything claiming more is corrupt
+        if (bodySize > 1100L * compressedSize + 64) {
+            throw new InvalidMeshFile("Corrupt binary mesh.");
+        }
+
+        // neither size is trusted for allocating: the input is read in chunks, and the body grows as it's inflated
+        var chunk = new byte[Math.min(compressedSize, CHUNK_SIZE)];
+        var body = new byte[Math.min(bodySize, CHUNK_SIZE)];
+        var remaining = compressedSize;
+        var inflater = new Inflater();
+        try {
+            var length = 0;
+            while (!inflater.finished()) {
+                if (inflater.needsInput()) {
+                    if (remaining == 0) {
+                        throw new InvalidMeshFile("Corrupt binary mesh.");
+                    }
+                    var n = in.read(chunk, 0, Math.min(chunk.length, remaining));
+                    if (n < 0) {
+                        throw new InvalidMeshFile("Truncated binary mesh.");
+                    }
+                    remaining -= n;
+                    inflater.setInput(chunk, 0, n);
+                } else if (inflater.needsDictionary()) {
+                    throw new InvalidMeshFile("Corrupt binary mesh.");
+                }
+                if (length == bodySize) {
+                    // only the end of the stream should be left
+                    if (inflater.inflate(new byte[1]) != 0) {
+                        throw new InvalidMeshFile("Corrupt binary mesh.");
+                    }
+                    continue;
+                }
+                if (length == body.length) {
+                    body = Arrays.copyOf(body, (int)Math.min(bodySize, 2L * length));
+                }
+                length += inflater.inflate(body, length, body.length - length);
+            }
+            if (length != bodySize || remaining != 0 || inflater.getRemaining() != 0) {
+                throw new InvalidMeshFile("Corrupt binary mesh.");
+            }
+        } catch (DataFormatException e) {
+            throw new InvalidMeshFile("Corrupt binary mesh.");
+        } finally {
+            inflater.end();
+        }
+        return read(flags, new VarintBuffer(body, bodySize));
+    }
+
+    private static BinaryMesh read(int flags, VarintBuffer in) throws InvalidMeshFile {
+        var vertexCount = in.getCount();
+        var faceCount = in.getCount();
+
+        var mesh = new MeshBuilder(vertexCount, faceCount);
+        if ((flags & BinaryMesh.QUANTISED) != 0) {
+            var quantum = in.getDouble();
+            long x = 0, y = 0, z = 0;
+            for (var v = 0; v < vertexCount; v++) {
+                x += in.getZigzag();
+                y += in.getZigzag();
+                z += in.getZigzag();
+                mesh.vertex(x * quantum, y * quantum, z * quantum);
+            }
+        } else {
+            for (var v = 0; v < vertexCount; v++) {
+                mesh.vertex(in.getDouble(), in.getDouble(), in.getDouble());
+            }
+        }
+
+        long index = 0;
+        for (var f = 0; f < faceCount; f++) {
+            var degree = in.getCount();
+            if (degree < 3) {
+                throw new InvalidMeshFile("A face must have at least three vertices.");
+            }
+            for (var i = 0; i < degree; i++) {
+                index += in.getZigzag();
+                if (index < 0 || index >= vertexCount) {
+                    throw new InvalidMeshFile("A face refers to a vertex that doesn't exist.");
+                }
+                mesh.faceVertex((int)index);
+            }
+            mesh.endFace();
+        }
+
+        PointSymmetryGroup3 symmetryGroup = null;
+        if ((flags & BinaryMesh.SYMMETRY_GROUP) != 0) {
+            var name = in.get(in.getCount());
+            try {
+                symmetryGroup = new PointSymmetryGroup3(new String(name, StandardCharsets.US_ASCII));
+            } catch (NotAPointSymmetry e) {
+                throw new InvalidMeshFile("Invalid symmetry group.");
+            }
+        }
+        return new BinaryMesh(mesh.build(), (flags & BinaryMesh.SPHERICAL) != 0, symmetryGroup);
+    }
+
+    // the counts before the body are read straight from the stream
+    private static int readCount(DataInput in) throws IOException {
+        long value = 0;
+        for (var shift = 0; shift < 35; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long)(b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value > Integer.MAX_VALUE) {
+                    break;
+                }
+                return (int)value;
+            }
+        }
+        throw new InvalidMeshFile("Invalid count.");
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    /**
+     * @return The first polyhedron in the file.
+     */
+    public static BinaryMesh read(Path file) throws IOException {
+        try (var reader = new BinaryMeshReader(Files.newInputStream(file))) {
+            var mesh = reader.read();
+            if (mesh == null) {
+                throw new EOFException("No binary mesh in " + file);
+            }
+            return mesh;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.sparrows.geometry.io;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.Deflater;
+
+import com.sparrows.geometry.geometry3.PointSymmetryGroup3;
+import com.sparrows.geometry.geometry3.Polyhedron;
+import com.sparrows.geometry.maths.Maths;
+import com.sparrows.geometry.spherical.SphericalPoint;
+import com.sparrows.geometry.spherical.SphericalPolyhedron;
+import com.sparrows.geometry.utils.VertexIndex;
+
+/**
+ * <p>Writes polyhedra in the compact binary format described in {@link BinaryMesh}, one record per polyhedron.</p>
+ */
+public class BinaryMeshWriter implements Closeable, Flushable {
+    static final double QUANTUM = Maths.ERROR_MARGIN / 16;
+
+    private final DataOutputStream out;
+    private final boolean quantise;
+    // each record's body is built and deflated here first, so its length can go before it
+    private final VarintBuffer body = new VarintBuffer(4096);
+    private byte[] deflated = new byte[4096];
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+
+    /**
+     * @param quantise Whether to store coordinates as multiples of a step much smaller than the error margin,
+     *                 rather than exactly.
+     */
+    public BinaryMeshWriter(OutputStream out, boolean quantise) {
+        this.out = new DataOutputStream(new BufferedOutputStream(out));
+        this.quantise = quantise;
+    }
+
+    public void write(Polyhedron h) throws IOException {
+        write(h, null);
+    }
+
+    public void write(Polyhedron h, PointSymmetryGroup3 symmetryGroup) throws IOException {
+        var vertices = h.vertices();
+        var coordinates = new double[3 * vertices.size()];
+        for (var v = 0; v < vertices.size(); v++) {
+            coordinates[3 * v] = vertices.get(v).getX();
+            coordinates[3 * v + 1] = vertices.get(v).getY();
+            coordinates[3 * v + 2] = vertices.get(v).getZ();
+        }
+        List<List<Integer>> faceVertices = h.faceVertices();
+        var faceStart = new int[faceVertices.size() + 1];
+        for (var f = 0; f < faceVertices.size(); f++) {
+            faceStart[f + 1] = faceStart[f] + faceVertices.get(f).size();
+        }
+        var indices = new int[faceStart[faceVertices.size()]];
+        var i = 0;
+        for (var face : faceVertices) {
+            for (var v : face) {
+                indices[i++] = v;
+            }
+        }
+        write(false, coordinates, faceStart, indices, symmetryGroup);
+    }
+
+    public void write(SphericalPolyhedron s) throws IOException {
+        write(s, null);
+    }
+
+    public void write(SphericalPolyhedron s, PointSymmetryGroup3 symmetryGroup) throws IOException {
+        var vertexIndex = new VertexIndex(s.faceCount());
+        var faceStart = new int[s.faceCount() + 1];
+        for (var f = 0; f < s.faceCount(); f++) {
+            faceStart[f + 1] = faceStart[f] + s.getFace(f).vertexCount();
+        }
+        var indices = new int[faceStart[s.faceCount()]];
+        var i = 0;
+        for (var face : s.getFaces()) {
+            for (SphericalPoint p : face.getVertices()) {
+                indices[i++] = vertexIndex.findOrAdd(p.getX(), p.getY(), p.getZ());
+            }
+        }
+        write(true, vertexIndex.coordinates(), faceStart, indices, symmetryGroup);
+    }
+
+    private void write(boolean spherical, double[] coordinates, int[] faceStart, int[] indices,
+                       PointSymmetryGroup3 symmetryGroup) throws IOException {
+        var faceCount = faceStart.length - 1;
+        body.clear();
+        body.putVarint(coordinates.length / 3);
+        body.putVarint(faceCount);
+
+        if (quantise) {
+            body.putDouble(QUANTUM);
+            long x = 0, y = 0, z = 0;
+            for (var c = 0; c < coordinates.length; c += 3) {
+                long qx = Math.round(coordinates[c] / QUANTUM);
+                long qy = Math.round(coordinates[c + 1] / QUANTUM);
+                long qz = Math.round(coordinates[c + 2] / QUANTUM);
+                body.putZigzag(qx - x);
+                body.putZigzag(qy - y);
+                body.putZigzag(qz - z);
+                x = qx;
+                y = qy;
+                z = qz;
+            }
+        } else {
+            for (var c : coordinates) {
+                body.putDouble(c);
+            }
+        }
+
+        var previous = 0;
+        for (var f = 0; f < faceCount; f++) {
+            body.putVarint(faceStart[f + 1] - faceStart[f]);
+            for (var i = faceStart[f]; i < faceStart[f + 1]; i++) {
+                body.putZigzag(indices[i] - previous);
+                previous = indices[i];
+            }
+        }
+
+        if (symmetryGroup != null) {
+            var name = symmetryGroup.toString().getBytes(StandardCharsets.US_ASCII);
+            body.putVarint(name.length);
+            body.put(name);
+        }
+
+        // deflate the whole body in one go
+        deflater.reset();
+        deflater.setInput(body.bytes(), 0, body.size());
+        deflater.finish();
+        var length = 0;
+        while (!deflater.finished()) {
+            if (length == deflated.length) {
+                deflated = Arrays.copyOf(deflated, 2 * deflated.length);
+            }
+            length += deflater.deflate(deflated, length, deflated.length - length);
+        }
+
+        out.writeInt(BinaryMesh.MAGIC);
+        out.writeByte(BinaryMesh.VERSION);
+        out.writeByte((spherical ? BinaryMesh.SPHERICAL : 0) | (quantise ? BinaryMesh.QUANTISED : 0)
+                | (symmetryGroup != null ? BinaryMesh.SYMMETRY_GROUP : 0));
+        writeVarint(out, body.size());
+        writeVarint(out, length);
+        out.write(deflated, 0, length);
+    }
+
+    private static void writeVarint(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int)(value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int)value);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        deflater.end();
+        out.close();
+    }
+
+    public static void write(Polyhedron h, Path file, boolean quantise) throws IOException {
+        try (var writer = new BinaryMeshWriter(Files.newOutputStream(file), quantise)) {
+            writer.write(h);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.sparrows.geometry.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * <p>Little-endian primitives written to a channel through one direct buffer, for the binary exporters.</p>
+ * <p>The channel isn't closed, as it belongs to the caller.</p>
+ */
+final class ChannelOutput {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private long written;
+
+    ChannelOutput(WritableByteChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * @return A channel writing the file from the start, replacing anything already there.
+     */
+    static FileChannel create(Path file) throws IOException {
+        return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+    }
+
+    /**
+     * @return The number of bytes put so far, whether or not they've reached the channel yet.
+     */
+    long position() {
+        return written + buffer.position();
+    }
+
+    void putFloat(double value) throws IOException {
+        room(4);
+        buffer.putFloat((float) value);
+    }
+
+    void putInt(int value) throws IOException {
+        room(4);
+        buffer.putInt(value);
+    }
+
+    void putShort(int value) throws IOException {
+        room(2);
+        buffer.putShort((short) value);
+    }
+
+    void putByte(int value) throws IOException {
+        room(1);
+        buffer.put((byte) value);
+    }
+
+    void put(byte[] bytes) throws IOException {
+        var offset = 0;
+        while (offset < bytes.length) {
+            room(1);
+            var length = Math.min(buffer.remaining(), bytes.length - offset);
+            buffer.put(bytes, offset, length);
+            offset += length;
+        }
+    }
+
+    void putAscii(String text) throws IOException {
+        put(text.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private void room(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    void flush() throws IOException {
+        buffer.flip();
+        written += buffer.remaining();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
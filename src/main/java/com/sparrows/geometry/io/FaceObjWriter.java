@@ -0,0 +1,191 @@
+package com.sparrows.geometry.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import com.sparrows.geometry.exception.GeometryException;
+import com.sparrows.geometry.geometry3.Point3;
+import com.sparrows.geometry.geometry3.Polygon3;
+import com.sparrows.geometry.geometry3.Polyhedron;
+
+/**
+ * <p>Writes each face of a polyhedron as its own OBJ file, either as the face alone or as a thin prism (the face
+ * and a copy scaled 1% out from the centroid) for cutting or printing, into a ZIP archive or a directory.</p>
+ * <p>Files are named as {@link Polyhedron#writeFaceObjFiles(String)} names them, the name followed by the face
+ * number from 1. The prisms are joined by the whole polyhedron, under the name alone.</p>
+ * <p>The files are made in a pool and written in face order by the calling thread. Only a few more files than
+ * the pool has threads are made ahead of the one being written, so memory doesn't grow with the number of
+ * faces. The archive writes in small pieces, so its stream should be buffered.</p>
+ */
+public final class FaceObjWriter {
+    public static final double PRISM_SCALE = 1.01;
+
+    private FaceObjWriter() {
+    }
+
+    // where the files go
+    private interface Sink {
+        void put(String fileName, byte[] content) throws IOException;
+    }
+
+    /**
+     * <p>Write each face to the archive, using the common pool.</p>
+     */
+    public static void writeFaces(Polyhedron h, ZipOutputStream zip, String name) throws IOException {
+        writeFaces(h, zip, name, ForkJoinPool.commonPool());
+    }
+    /**
+     * @param pool The pool to make the files in, or null to do everything in the calling thread.
+     */
+    public static void writeFaces(Polyhedron h, ZipOutputStream zip, String name, ForkJoinPool pool)
+            throws IOException {
+        writeFaces(h, zipSink(zip), name, pool);
+    }
+
+    /**
+     * <p>Write each face to its own file in the directory, using the common pool.</p>
+     */
+    public static void writeFaces(Polyhedron h, Path directory, String name) throws IOException {
+        writeFaces(h, directory, name, ForkJoinPool.commonPool());
+    }
+    /**
+     * @param pool The pool to make the files in, or null to do everything in the calling thread.
+     */
+    public static void writeFaces(Polyhedron h, Path directory, String name, ForkJoinPool pool) throws IOException {
+        writeFaces(h, directorySink(directory), name, pool);
+    }
+
+    /**
+     * <p>Write the polyhedron and a prism for each face to the archive, using the common pool.</p>
+     */
+    public static void writeFacePrisms(Polyhedron h, ZipOutputStream zip, String name) throws IOException {
+        writeFacePrisms(h, zip, name, ForkJoinPool.commonPool());
+    }
+    /**
+     * @param pool The pool to make the files in, or null to do everything in the calling thread.
+     */
+    public static void writeFacePrisms(Polyhedron h, ZipOutputStream zip, String name, ForkJoinPool pool)
+            throws IOException {
+        writeFacePrisms(h, zipSink(zip), name, pool);
+    }
+
+    /**
+     * <p>Write the polyhedron and a prism for each face to their own files in the directory, using the common
+     * pool.</p>
+     */
+    public static void writeFacePrisms(Polyhedron h, Path directory, String name) throws IOException {
+        writeFacePrisms(h, directory, name, ForkJoinPool.commonPool());
+    }
+    /**
+     * @param pool The pool to make the files in, or null to do everything in the calling thread.
+     */
+    public static void writeFacePrisms(Polyhedron h, Path directory, String name, ForkJoinPool pool)
+            throws IOException {
+        writeFacePrisms(h, directorySink(directory), name, pool);
+    }
+
+    private static void writeFaces(Polyhedron h, Sink sink, String name, ForkJoinPool pool) throws IOException {
+        write(h.faceCount(), f -> obj(writer -> writer.write(h.getFace(f))), sink, name, pool);
+    }
+
+    private static void writeFacePrisms(Polyhedron h, Sink sink, String name, ForkJoinPool pool)
+            throws IOException {
+        sink.put(name + ".obj", obj(writer -> writer.write(h)));
+        Point3 centre = h.centroid();
+        write(h.faceCount(), f -> obj(writer -> {
+            Polygon3 face = h.getFace(f).reverse();
+            writer.writePrism(face, scale(face, centre));
+        }), sink, name, pool);
+    }
+
+    private static Polygon3 scale(Polygon3 face, Point3 centre) {
+        try {
+            return face.scale(centre, PRISM_SCALE);
+        } catch (GeometryException e) {
+            // can't happen, the factor isn't zero
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private interface FileMaker {
+        byte[] make(int f) throws IOException;
+    }
+
+    private static void write(int count, FileMaker maker, Sink sink, String name, ForkJoinPool pool)
+            throws IOException {
+        if (pool == null) {
+            for (var f = 0; f < count; f++) {
+                sink.put(fileName(name, f), maker.make(f));
+            }
+            return;
+        }
+        var ahead = 2 * pool.getParallelism();
+        var pending = new ArrayDeque<Future<byte[]>>(ahead);
+        var submitted = 0;
+        try {
+            for (var f = 0; f < count; f++) {
+                while (submitted < count && pending.size() < ahead) {
+                    var face = submitted++;
+                    pending.add(pool.submit((Callable<byte[]>) () -> maker.make(face)));
+                }
+                sink.put(fileName(name, f), get(pending.remove()));
+            }
+        } finally {
+            pending.forEach(future -> future.cancel(false));
+        }
+    }
+
+    private static byte[] get(Future<byte[]> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted making a face file", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private interface ObjContent {
+        void write(ObjWriter writer) throws IOException;
+    }
+
+    private static byte[] obj(ObjContent content) throws IOException {
+        var bytes = new ByteArrayOutputStream(4096);
+        try (var writer = new ObjWriter(bytes)) {
+            content.write(writer);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static String fileName(String name, int f) {
+        return name + (f + 1) + ".obj";
+    }
+
+    private static Sink zipSink(ZipOutputStream zip) {
+        return (fileName, content) -> {
+            zip.putNextEntry(new ZipEntry(fileName));
+            zip.write(content);
+            zip.closeEntry();
+        };
+    }
+
+    private static Sink directorySink(Path directory) {
+        return (fileName, content) -> Files.write(directory.resolve(fileName), content);
+    }
+}
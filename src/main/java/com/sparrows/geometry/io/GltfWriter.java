@@ -0,0 +1,162 @@
+package com.sparrows.geometry.io;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Base64;
+
+import com.sparrows.geometry.geometry3.Polyhedron;
+import com.sparrows.geometry.geometry3.Triangulation;
+
+/**
+ * <p>Writes a triangulation as glTF 2.0, either as a binary GLB file or as a single JSON .gltf file with the
+ * buffer embedded as base64.</p>
+ * <p>The buffer holds the float positions of the vertices followed by the int indices of the triangles, one
+ * mesh with one primitive. No normals are written, since glTF viewers must then shade each triangle flat, which
+ * is what's wanted for a polyhedron.</p>
+ */
+public final class GltfWriter {
+    private static final int GLB_MAGIC = 0x46546C67;
+    private static final int GLB_VERSION = 2;
+    private static final int CHUNK_JSON = 0x4E4F534A;
+    private static final int CHUNK_BIN = 0x004E4942;
+    private static final int FLOAT = 5126;
+    private static final int UNSIGNED_INT = 5125;
+    private static final int ARRAY_BUFFER = 34962;
+    private static final int ELEMENT_ARRAY_BUFFER = 34963;
+    private static final String DATA_URI = "data:application/octet-stream;base64,";
+
+    private GltfWriter() {
+    }
+
+    /**
+     * <p>Write the triangles to the channel as GLB, leaving the channel open.</p>
+     */
+    public static void writeGlb(Triangulation t, WritableByteChannel channel) throws IOException {
+        var json = json(t, null).getBytes(StandardCharsets.UTF_8);
+        var jsonLength = padded(json.length);
+        var binLength = bufferLength(t);
+
+        var out = new ChannelOutput(channel);
+        out.putInt(GLB_MAGIC);
+        out.putInt(GLB_VERSION);
+        out.putInt(12 + 8 + jsonLength + 8 + binLength);
+        out.putInt(jsonLength);
+        out.putInt(CHUNK_JSON);
+        out.put(json);
+        for (var i = json.length; i < jsonLength; i++) {
+            out.putByte(' ');
+        }
+        out.putInt(binLength);
+        out.putInt(CHUNK_BIN);
+        buffer(t, out);
+        out.flush();
+    }
+
+    /**
+     * <p>Write the triangles to the channel as a .gltf file, leaving the channel open. The buffer is encoded as
+     * it's written, so it's never held in memory.</p>
+     */
+    public static void writeGltf(Triangulation t, WritableByteChannel channel) throws IOException {
+        var json = json(t, "");
+        var split = json.indexOf(DATA_URI) + DATA_URI.length();
+        var stream = Channels.newOutputStream(channel);
+        stream.write(json.substring(0, split).getBytes(StandardCharsets.UTF_8));
+        // closing the encoder writes its last padded group, but mustn't close the caller's channel
+        try (var base64 = Base64.getEncoder().wrap(new FilterOutputStream(stream) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+            }
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        })) {
+            var out = new ChannelOutput(Channels.newChannel(base64));
+            buffer(t, out);
+            out.flush();
+        }
+        stream.write(json.substring(split).getBytes(StandardCharsets.UTF_8));
+        stream.flush();
+    }
+
+    private static int bufferLength(Triangulation t) {
+        return 12 * t.vertexCount() + 12 * t.triangleCount();
+    }
+
+    private static void buffer(Triangulation t, ChannelOutput out) throws IOException {
+        for (var v = 0; v < t.vertexCount(); v++) {
+            out.putFloat(t.getX(v));
+            out.putFloat(t.getY(v));
+            out.putFloat(t.getZ(v));
+        }
+        for (var i = 0; i < t.triangleCount(); i++) {
+            out.putInt(t.triangleVertex(i, 0));
+            out.putInt(t.triangleVertex(i, 1));
+            out.putInt(t.triangleVertex(i, 2));
+        }
+    }
+
+    // the uri is left empty after the data URI prefix, for writeGltf to fill in
+    private static String json(Triangulation t, String uri) {
+        float[] min = {Float.MAX_VALUE, Float.MAX_VALUE, Float.MAX_VALUE};
+        float[] max = {-Float.MAX_VALUE, -Float.MAX_VALUE, -Float.MAX_VALUE};
+        for (var v = 0; v < t.vertexCount(); v++) {
+            float[] p = {(float) t.getX(v), (float) t.getY(v), (float) t.getZ(v)};
+            for (var i = 0; i < 3; i++) {
+                min[i] = Math.min(min[i], p[i]);
+                max[i] = Math.max(max[i], p[i]);
+            }
+        }
+        var positionsLength = 12 * t.vertexCount();
+        var json = new StringBuilder(1024);
+        json.append("{\"asset\":{\"version\":\"2.0\",\"generator\":\"sparrows geometry\"},")
+                .append("\"scene\":0,\"scenes\":[{\"nodes\":[0]}],\"nodes\":[{\"mesh\":0}],")
+                .append("\"meshes\":[{\"primitives\":[{\"attributes\":{\"POSITION\":0},\"indices\":1,\"mode\":4}]}],")
+                .append("\"buffers\":[{\"byteLength\":").append(bufferLength(t));
+        if (uri != null) {
+            json.append(",\"uri\":\"").append(DATA_URI).append(uri).append('"');
+        }
+        json.append("}],\"bufferViews\":[")
+                .append("{\"buffer\":0,\"byteOffset\":0,\"byteLength\":").append(positionsLength)
+                .append(",\"target\":").append(ARRAY_BUFFER).append("},")
+                .append("{\"buffer\":0,\"byteOffset\":").append(positionsLength)
+                .append(",\"byteLength\":").append(12 * t.triangleCount())
+                .append(",\"target\":").append(ELEMENT_ARRAY_BUFFER).append("}],")
+                .append("\"accessors\":[")
+                .append("{\"bufferView\":0,\"componentType\":").append(FLOAT)
+                .append(",\"count\":").append(t.vertexCount()).append(",\"type\":\"VEC3\",")
+                .append("\"min\":[").append(min[0]).append(',').append(min[1]).append(',').append(min[2]).append("],")
+                .append("\"max\":[").append(max[0]).append(',').append(max[1]).append(',').append(max[2]).append("]},")
+                .append("{\"bufferView\":1,\"componentType\":").append(UNSIGNED_INT)
+                .append(",\"count\":").append(3 * t.triangleCount()).append(",\"type\":\"SCALAR\"}]}");
+        return json.toString();
+    }
+
+    private static int padded(int length) {
+        return (length + 3) & ~3;
+    }
+
+    /**
+     * <p>Write the polyhedron to the given file as GLB, using its cached triangulation.</p>
+     */
+    public static void writeGlb(Polyhedron h, Path file) throws IOException {
+        try (var channel = ChannelOutput.create(file)) {
+            writeGlb(h.triangulation(), channel);
+        }
+    }
+
+    /**
+     * <p>Write the polyhedron to the given file as .gltf, using its cached triangulation.</p>
+     */
+    public static void writeGltf(Polyhedron h, Path file) throws IOException {
+        try (var channel = ChannelOutput.create(file)) {
+            writeGltf(h.triangulation(), channel);
+        }
+    }
+}
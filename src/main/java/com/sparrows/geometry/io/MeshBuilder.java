@@ -0,0 +1,80 @@
+package com.sparrows.geometry.io;
+
+import java.util.Arrays;
+
+import com.sparrows.geometry.exception.InvalidMeshFile;
+import com.sparrows.geometry.geometry3.HalfEdgeMesh;
+
+/**
+ * <p>Collects indexed vertices and faces into growable primitive arrays, ready to make a {@link HalfEdgeMesh}
+ * without any per-vertex objects.</p>
+ */
+final class MeshBuilder {
+    private static final int MAX_EXPECTED = 1 << 20;
+
+    private double[] coordinates;
+    private int vertexCount;
+    private int[] faceStart;
+    private int faceCount;
+    private int[] faceVertices;
+    private int size;
+
+    MeshBuilder() {
+        this(64, 64);
+    }
+    // counts come from files, so don't trust them with more than a modest amount of memory up front
+    MeshBuilder(int expectedVertices, int expectedFaces) {
+        expectedVertices = Math.min(Math.max(expectedVertices, 4), MAX_EXPECTED);
+        expectedFaces = Math.min(Math.max(expectedFaces, 4), MAX_EXPECTED);
+        coordinates = new double[3 * expectedVertices];
+        faceStart = new int[expectedFaces + 1];
+        faceVertices = new int[3 * expectedFaces];
+    }
+
+    int vertexCount() {
+        return vertexCount;
+    }
+    int faceCount() {
+        return faceCount;
+    }
+
+    void vertex(double x, double y, double z) {
+        if (3 * vertexCount == coordinates.length) {
+            coordinates = Arrays.copyOf(coordinates, 2 * coordinates.length);
+        }
+        coordinates[3 * vertexCount] = x;
+        coordinates[3 * vertexCount + 1] = y;
+        coordinates[3 * vertexCount + 2] = z;
+        vertexCount++;
+    }
+
+    void faceVertex(int v) {
+        if (size == faceVertices.length) {
+            faceVertices = Arrays.copyOf(faceVertices, 2 * faceVertices.length);
+        }
+        faceVertices[size++] = v;
+    }
+
+    /**
+     * <p>End the face whose vertices have been added since the last face ended.</p>
+     * @return The number of vertices of the face.
+     */
+    int endFace() {
+        if (faceCount + 2 > faceStart.length) {
+            faceStart = Arrays.copyOf(faceStart, 2 * faceStart.length);
+        }
+        faceStart[++faceCount] = size;
+        return size - faceStart[faceCount - 1];
+    }
+
+    HalfEdgeMesh build() throws InvalidMeshFile {
+        for (var h = 0; h < size; h++) {
+            if (faceVertices[h] < 0 || faceVertices[h] >= vertexCount) {
+                throw new InvalidMeshFile("A face refers to a vertex that doesn't exist, as there are only "
+                        + vertexCount + " vertices.");
+            }
+        }
+        return new HalfEdgeMesh(Arrays.copyOf(coordinates, 3 * vertexCount), Arrays.copyOf(faceStart, faceCount + 1),
+                Arrays.copyOf(faceVertices, size));
+    }
+}
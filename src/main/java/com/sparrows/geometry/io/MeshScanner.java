@@ -0,0 +1,288 @@
+package com.sparrows.geometry.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import com.sparrows.geometry.exception.InvalidMeshFile;
+
+/**
+ * <p>Reads the tokens of a text mesh file straight from its bytes, with no Strings made for lines or numbers.</p>
+ * <p>Reads are absolute, so the buffer's position is never changed. Numbers are parsed by hand: a decimal with
+ * up to 2<sup>53</sup> as its digits and a power of ten up to 10<sup>22</sup> is a product or quotient of
+ * two exact doubles, so one multiplication or division gives the correctly rounded result. Anything else (such
+ * as 17 significant digits) is handed to {@link Double#parseDouble(String)}.</p>
+ */
+final class MeshScanner {
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+    private static final long MAX_EXACT = 1L << 53;
+
+    private final ByteBuffer data;
+    private final int limit;
+    private int position;
+    private int line = 1;
+
+    MeshScanner(ByteBuffer data) {
+        this.data = data;
+        this.position = data.position();
+        this.limit = data.limit();
+    }
+
+    /**
+     * <p>Map the whole of a file into memory.</p>
+     */
+    static ByteBuffer map(Path file) throws IOException {
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new InvalidMeshFile("The file is too large to map: " + file);
+            }
+            // the mapping stays valid after the channel is closed
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    int line() {
+        return line;
+    }
+
+    InvalidMeshFile error(String message) {
+        return new InvalidMeshFile(line, message);
+    }
+
+    boolean atEnd() {
+        return position >= limit;
+    }
+
+    private static boolean isSpace(int c) {
+        return c == ' ' || c == '\t' || c == '\r' || c == '\f';
+    }
+
+    private static boolean isDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private int peek() {
+        return position < limit ? data.get(position) : -1;
+    }
+
+    /**
+     * <p>Skip spaces and tabs, but not line ends.</p>
+     */
+    void skipSpaces() {
+        while (position < limit && isSpace(data.get(position))) {
+            position++;
+        }
+    }
+
+    /**
+     * <p>Skip spaces, line ends and comments up to the next token.</p>
+     */
+    void skipBlank() {
+        while (position < limit) {
+            int c = data.get(position);
+            if (c == '#') {
+                skipLine();
+            } else if (c == '\n') {
+                position++;
+                line++;
+            } else if (isSpace(c)) {
+                position++;
+            } else {
+                return;
+            }
+        }
+    }
+
+    /**
+     * <p>Move to the start of the next line.</p>
+     */
+    void skipLine() {
+        while (position < limit) {
+            if (data.get(position++) == '\n') {
+                line++;
+                return;
+            }
+        }
+    }
+
+    /**
+     * <p>Skip spaces, then check whether the line ends here (at a line end, comment or the end of the data).</p>
+     */
+    boolean atLineEnd() {
+        skipSpaces();
+        int c = peek();
+        return c == -1 || c == '\n' || c == '#';
+    }
+
+    /**
+     * <p>Check whether the next token looks like a number.</p>
+     */
+    boolean atNumber() {
+        int c = peek();
+        return isDigit(c) || c == '-' || c == '+' || c == '.';
+    }
+
+    /**
+     * <p>Skip the rest of the current token.</p>
+     */
+    void skipToken() {
+        while (position < limit) {
+            int c = data.get(position);
+            if (isSpace(c) || c == '\n') {
+                return;
+            }
+            position++;
+        }
+    }
+
+    /**
+     * <p>Check whether the next token is the given keyword, and skip it if so.</p>
+     */
+    boolean keyword(String word) {
+        var end = position + word.length();
+        if (end > limit) {
+            return false;
+        }
+        for (var i = 0; i < word.length(); i++) {
+            if (data.get(position + i) != word.charAt(i)) {
+                return false;
+            }
+        }
+        if (end < limit && !isSpace(data.get(end)) && data.get(end) != '\n') {
+            return false;
+        }
+        position = end;
+        return true;
+    }
+
+    /**
+     * @return The next token, for the rare places where a String is needed.
+     */
+    String token() {
+        var start = position;
+        skipToken();
+        var bytes = new byte[position - start];
+        for (var i = 0; i < bytes.length; i++) {
+            bytes[i] = data.get(start + i);
+        }
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * <p>Read an integer, which may be followed by a space, a line end or a slash.</p>
+     */
+    int nextInt() throws InvalidMeshFile {
+        skipSpaces();
+        var negative = false;
+        int c = peek();
+        if (c == '-' || c == '+') {
+            negative = c == '-';
+            position++;
+        }
+        if (!isDigit(peek())) {
+            throw error("Expected an integer.");
+        }
+        long value = 0;
+        while (isDigit(c = peek())) {
+            value = 10 * value + (c - '0');
+            if (value > Integer.MAX_VALUE) {
+                throw error("Integer too large.");
+            }
+            position++;
+        }
+        if (c != -1 && !isSpace(c) && c != '\n' && c != '/') {
+            throw error("Expected an integer.");
+        }
+        return (int)(negative ? -value : value);
+    }
+
+    /**
+     * <p>Read a real number, which must be followed by a space or a line end.</p>
+     */
+    double nextDouble() throws InvalidMeshFile {
+        skipSpaces();
+        var start = position;
+        var negative = false;
+        int c = peek();
+        if (c == '-' || c == '+') {
+            negative = c == '-';
+            position++;
+        }
+        long mantissa = 0;
+        var significant = 0;
+        var exponent = 0;
+        var digits = 0;
+        while (isDigit(c = peek())) {
+            if (mantissa != 0 || c != '0') {
+                significant++;
+                if (significant <= 18) {
+                    mantissa = 10 * mantissa + (c - '0');
+                } else {
+                    exponent++;
+                }
+            }
+            digits++;
+            position++;
+        }
+        if (c == '.') {
+            position++;
+            while (isDigit(c = peek())) {
+                if (mantissa != 0 || c != '0') {
+                    significant++;
+                    if (significant <= 18) {
+                        mantissa = 10 * mantissa + (c - '0');
+                        exponent--;
+                    }
+                } else {
+                    exponent--;
+                }
+                digits++;
+                position++;
+            }
+        }
+        if (digits > 0 && (c == 'e' || c == 'E')) {
+            position++;
+            var exponentNegative = false;
+            c = peek();
+            if (c == '-' || c == '+') {
+                exponentNegative = c == '-';
+                position++;
+            }
+            if (!isDigit(peek())) {
+                return slowDouble(start);
+            }
+            var e = 0;
+            while (isDigit(c = peek())) {
+                if (e < 100000) {
+                    e = 10 * e + (c - '0');
+                }
+                position++;
+            }
+            exponent += exponentNegative ? -e : e;
+        }
+        if (digits == 0 || (c != -1 && !isSpace(c) && c != '\n')) {
+            // NaN, Infinity, hexadecimal or nonsense
+            return slowDouble(start);
+        }
+        if (significant <= 18 && mantissa <= MAX_EXACT && exponent >= -22 && exponent <= 22) {
+            double value = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+            return negative ? -value : value;
+        }
+        return slowDouble(start);
+    }
+
+    private double slowDouble(int start) throws InvalidMeshFile {
+        position = start;
+        var token = token();
+        try {
+            return Double.parseDouble(token);
+        } catch (NumberFormatException e) {
+            throw error("Expected a number but found \"" + token + "\".");
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.sparrows.geometry.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+import com.sparrows.geometry.exception.InvalidMeshFile;
+import com.sparrows.geometry.geometry3.HalfEdgeMesh;
+
+/**
+ * <p>Reads the vertices and faces of a Wavefront OBJ file into a {@link HalfEdgeMesh}.</p>
+ * <p>The file is memory mapped and scanned in one pass, and faces are kept as the vertex indices in the file,
+ * so vertices are never compared with each other. Face vertices may be given as v, v/vt, v//vn or v/vt/vn, and
+ * negative indices count back from the latest vertex. Texture coordinates, normals, groups, materials and
+ * anything else are skipped.</p>
+ */
+public final class ObjReader {
+    private ObjReader() {
+    }
+
+    public static HalfEdgeMesh read(Path file) throws IOException {
+        return read(MeshScanner.map(file));
+    }
+
+    /**
+     * <p>Read OBJ data from the buffer's position to its limit. The buffer's position isn't changed.</p>
+     */
+    public static HalfEdgeMesh read(ByteBuffer data) throws InvalidMeshFile {
+        var in = new MeshScanner(data);
+        var mesh = new MeshBuilder();
+        while (true) {
+            in.skipBlank();
+            if (in.atEnd()) {
+                break;
+            }
+            if (in.keyword("v")) {
+                double x = in.nextDouble();
+                double y = in.nextDouble();
+                double z = in.nextDouble();
+                mesh.vertex(x, y, z);
+            } else if (in.keyword("f")) {
+                face(in, mesh);
+            }
+            in.skipLine();
+        }
+        return mesh.build();
+    }
+
+    private static void face(MeshScanner in, MeshBuilder mesh) throws InvalidMeshFile {
+        while (!in.atLineEnd()) {
+            int v = in.nextInt();
+            if (v > 0) {
+                mesh.faceVertex(v - 1);
+            } else if (v < 0) {
+                mesh.faceVertex(mesh.vertexCount() + v);
+            } else {
+                throw in.error("Vertex indices start at 1.");
+            }
+            // texture coordinate and normal indices
+            in.skipToken();
+        }
+        if (mesh.endFace() < 3) {
+            throw in.error("A face must have at least three vertices.");
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.sparrows.geometry.io;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import com.sparrows.geometry.geometry3.Point3;
+import com.sparrows.geometry.geometry3.Polygon3;
+import com.sparrows.geometry.geometry3.Polyhedron;
+import com.sparrows.geometry.geometry3.StandardPolyhedra;
+
+/**
+ * <p>Writes polyhedra in Wavefront OBJ format, streaming each line to the output as it's made.</p>
+ * <p>Faces refer to the welded vertices of {@link Polyhedron#faceVertices()}, so nothing is looked up while
+ * writing. Numbers are formatted as {@link Double#toString(double)} does, and lines end with CR LF, so the output
+ * is the same as {@link Polyhedron#objString()} always gave.</p>
+ * <p>Vertex numbers carry on from one object to the next, so several polyhedra can be written to one file.</p>
+ */
+public class ObjWriter implements Closeable, Flushable {
+    private static final String EOL = "\r\n";
+    private static final int FLUSH_SIZE = 8192;
+
+    private final Writer out;
+    // lines are built here and written in blocks, and appending a double doesn't make a String
+    private final StringBuilder buffer = new StringBuilder(FLUSH_SIZE + 256);
+    private char[] chars = new char[FLUSH_SIZE + 256];
+    private int vertexCount;
+
+    public ObjWriter(Writer out) {
+        this.out = out;
+    }
+    public ObjWriter(OutputStream out) {
+        this(new OutputStreamWriter(out, StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * @return The number of vertices written so far.
+     */
+    public int getVertexCount() {
+        return vertexCount;
+    }
+
+    /**
+     * <p>Write the vertices of the polyhedron once each, then its faces.</p>
+     */
+    public void write(Polyhedron h) throws IOException {
+        List<Point3> vertices = h.vertices();
+        for (var vertex : vertices) {
+            vertex(vertex);
+        }
+        for (var face : h.faceVertices()) {
+            buffer.append('f');
+            for (var v : face) {
+                buffer.append(' ').append(vertexCount + v + 1);
+            }
+            endLine();
+        }
+        vertexCount += vertices.size();
+    }
+
+    /**
+     * <p>Write each face with its own copy of its vertices, so no vertices are shared between faces.</p>
+     */
+    public void writeIndependentFaces(Polyhedron h) throws IOException {
+        for (var face : h.getFaces()) {
+            write(face);
+        }
+    }
+
+    /**
+     * <p>Write a polygon as a single face with its own vertices.</p>
+     */
+    public void write(Polygon3 face) throws IOException {
+        for (var vertex : face.getVertices()) {
+            vertex(vertex);
+        }
+        buffer.append("f ");
+        for (var v = 0; v < face.getVertices().size(); v++) {
+            buffer.append(' ').append(++vertexCount);
+        }
+        endLine();
+    }
+
+    /**
+     * <p>Write the prism between two faces with the same number of vertices, as
+     * {@link #write(Polyhedron)} would write {@link StandardPolyhedra#prism(Polygon3, Polygon3)}, without making
+     * the polyhedron. The vertices of the two faces must all be distinct.</p>
+     */
+    public void writePrism(Polygon3 face1, Polygon3 face2) throws IOException {
+        var n = face1.vertexCount();
+        if (face2.vertexCount() != n) {
+            throw new IllegalArgumentException("The faces of a prism must have the same number of vertices.");
+        }
+        // the vertices of face1, then face2 backwards, the order the prism's faces meet them in
+        for (var vertex : face1.getVertices()) {
+            vertex(vertex);
+        }
+        for (var i = n - 1; i >= 0; i--) {
+            vertex(face2.getVertex(i));
+        }
+        var first = vertexCount + 1;
+        for (var cap = 0; cap < 2; cap++) {
+            buffer.append('f');
+            for (var i = 0; i < n; i++) {
+                buffer.append(' ').append(first + cap * n + i);
+            }
+            endLine();
+        }
+        for (var i = 0; i < n; i++) {
+            var j = (i + 1) % n;
+            buffer.append("f ").append(first + j).append(' ').append(first + i)
+                    .append(' ').append(first + 2 * n - 1 - i).append(' ').append(first + 2 * n - 1 - j);
+            endLine();
+        }
+        vertexCount += 2 * n;
+    }
+
+    private void vertex(Point3 p) throws IOException {
+        buffer.append("v ").append(p.getX()).append(' ').append(p.getY()).append(' ').append(p.getZ());
+        endLine();
+    }
+
+    private void endLine() throws IOException {
+        buffer.append(EOL);
+        if (buffer.length() >= FLUSH_SIZE) {
+            drain();
+        }
+    }
+
+    private void drain() throws IOException {
+        var length = buffer.length();
+        if (chars.length < length) {
+            chars = new char[length];
+        }
+        buffer.getChars(0, length, chars, 0);
+        out.write(chars, 0, length);
+        buffer.setLength(0);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        drain();
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            drain();
+        } finally {
+            out.close();
+        }
+    }
+
+    /**
+     * <p>Write the polyhedron to the given file.</p>
+     */
+    public static void write(Polyhedron h, Path file) throws IOException {
+        try (var writer = new ObjWriter(Files.newBufferedWriter(file, StandardCharsets.US_ASCII))) {
+            writer.write(h);
+        }
+    }
+
+    /**
+     * <p>Write the faces of the polyhedron to the given file, each with its own vertices.</p>
+     */
+    public static void writeIndependentFaces(Polyhedron h, Path file) throws IOException {
+        try (var writer = new ObjWriter(Files.newBufferedWriter(file, StandardCharsets.US_ASCII))) {
+            writer.writeIndependentFaces(h);
+        }
+    }
+}
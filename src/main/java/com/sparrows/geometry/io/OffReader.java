@@ -0,0 +1,74 @@
+package com.sparrows.geometry.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+import com.sparrows.geometry.exception.InvalidMeshFile;
+import com.sparrows.geometry.geometry3.HalfEdgeMesh;
+
+/**
+ * <p>Reads an Object File Format (OFF) file into a {@link HalfEdgeMesh}.</p>
+ * <p>The file is memory mapped and scanned in one pass, into arrays sized from the counts in its header. The
+ * header keyword is optional, and may ask for vertex colours, normals or texture coordinates (as in COFF, NOFF
+ * or STOFF), which are skipped, as are face colours. Only three-dimensional files are read.</p>
+ */
+public final class OffReader {
+    private OffReader() {
+    }
+
+    public static HalfEdgeMesh read(Path file) throws IOException {
+        return read(MeshScanner.map(file));
+    }
+
+    /**
+     * <p>Read OFF data from the buffer's position to its limit. The buffer's position isn't changed.</p>
+     */
+    public static HalfEdgeMesh read(ByteBuffer data) throws InvalidMeshFile {
+        var in = new MeshScanner(data);
+        in.skipBlank();
+        var extraVertexData = false;
+        if (!in.atEnd() && !in.atNumber()) {
+            String keyword = in.token();
+            if (!keyword.matches("(ST)?C?N?OFF")) {
+                throw in.error("Unsupported OFF header \"" + keyword + "\".");
+            }
+            extraVertexData = !keyword.equals("OFF");
+            in.skipBlank();
+        }
+
+        int vertexCount = in.nextInt();
+        int faceCount = in.nextInt();
+        // the edge count is often missing or wrong, so it's ignored
+        in.skipLine();
+        if (vertexCount < 0 || faceCount < 0) {
+            throw in.error("Invalid vertex or face count.");
+        }
+
+        var mesh = new MeshBuilder(vertexCount, faceCount);
+        for (var v = 0; v < vertexCount; v++) {
+            in.skipBlank();
+            double x = in.nextDouble();
+            double y = in.nextDouble();
+            double z = in.nextDouble();
+            mesh.vertex(x, y, z);
+            if (extraVertexData) {
+                in.skipLine();
+            }
+        }
+        for (var f = 0; f < faceCount; f++) {
+            in.skipBlank();
+            int n = in.nextInt();
+            if (n < 3) {
+                throw in.error("A face must have at least three vertices.");
+            }
+            for (var i = 0; i < n; i++) {
+                mesh.faceVertex(in.nextInt());
+            }
+            mesh.endFace();
+            // face colours
+            in.skipLine();
+        }
+        return mesh.build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.sparrows.geometry.io;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+
+import com.sparrows.geometry.geometry3.Polyhedron;
+import com.sparrows.geometry.geometry3.Triangulation;
+
+/**
+ * <p>Writes a triangulation as binary little-endian PLY, with float vertices and each triangle as a list of
+ * three int indices.</p>
+ * <p>Unlike STL the vertices are written once each and shared by the triangles around them.</p>
+ */
+public final class PlyWriter {
+    private static final String EOL = "\n";
+
+    private PlyWriter() {
+    }
+
+    /**
+     * <p>Write the triangles to the channel, which is left open.</p>
+     */
+    public static void write(Triangulation t, WritableByteChannel channel) throws IOException {
+        var out = new ChannelOutput(channel);
+        out.putAscii("ply" + EOL
+                + "format binary_little_endian 1.0" + EOL
+                + "comment sparrows geometry" + EOL
+                + "element vertex " + t.vertexCount() + EOL
+                + "property float x" + EOL
+                + "property float y" + EOL
+                + "property float z" + EOL
+                + "element face " + t.triangleCount() + EOL
+                + "property list uchar int vertex_indices" + EOL
+                + "end_header" + EOL);
+        for (var v = 0; v < t.vertexCount(); v++) {
+            out.putFloat(t.getX(v));
+            out.putFloat(t.getY(v));
+            out.putFloat(t.getZ(v));
+        }
+        for (var i = 0; i < t.triangleCount(); i++) {
+            out.putByte(3);
+            out.putInt(t.triangleVertex(i, 0));
+            out.putInt(t.triangleVertex(i, 1));
+            out.putInt(t.triangleVertex(i, 2));
+        }
+        out.flush();
+    }
+
+    /**
+     * <p>Write the polyhedron to the given file, using its cached triangulation.</p>
+     */
+    public static void write(Polyhedron h, Path file) throws IOException {
+        try (var channel = ChannelOutput.create(file)) {
+            write(h.triangulation(), channel);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.sparrows.geometry.io;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import com.sparrows.geometry.geometry3.Polyhedron;
+import com.sparrows.geometry.geometry3.Triangulation;
+
+/**
+ * <p>Writes a triangulation as binary STL: an 80 byte header, the number of triangles, then 50 bytes for each
+ * triangle, its face normal and its three corners as floats, and a zero attribute word.</p>
+ */
+public final class StlWriter {
+    public static final int HEADER_SIZE = 80;
+    public static final int TRIANGLE_SIZE = 50;
+
+    private StlWriter() {
+    }
+
+    /**
+     * <p>Write the triangles to the channel, which is left open.</p>
+     */
+    public static void write(Triangulation t, WritableByteChannel channel) throws IOException {
+        var out = new ChannelOutput(channel);
+        var header = Arrays.copyOf("Binary STL from sparrows geometry".getBytes(StandardCharsets.US_ASCII), HEADER_SIZE);
+        out.put(header);
+        out.putInt(t.triangleCount());
+        for (var i = 0; i < t.triangleCount(); i++) {
+            var f = t.triangleFace(i);
+            out.putFloat(t.normalX(f));
+            out.putFloat(t.normalY(f));
+            out.putFloat(t.normalZ(f));
+            for (var j = 0; j < 3; j++) {
+                var v = t.triangleVertex(i, j);
+                out.putFloat(t.getX(v));
+                out.putFloat(t.getY(v));
+                out.putFloat(t.getZ(v));
+            }
+            out.putShort(0);
+        }
+        out.flush();
+    }
+
+    /**
+     * <p>Write the polyhedron to the given file, using its cached triangulation.</p>
+     */
+    public static void write(Polyhedron h, Path file) throws IOException {
+        try (var channel = ChannelOutput.create(file)) {
+            write(h.triangulation(), channel);
+        }
+    }
+}
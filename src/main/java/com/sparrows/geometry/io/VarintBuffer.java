@@ -0,0 +1,113 @@
+package com.sparrows.geometry.io;
+
+import java.util.Arrays;
+
+import com.sparrows.geometry.exception.InvalidMeshFile;
+
+/**
+ * <p>A growable byte array holding varints and doubles, written and read without going through streams.</p>
+ */
+final class VarintBuffer {
+    private byte[] bytes;
+    private int size;
+    private int position;
+
+    VarintBuffer(int capacity) {
+        bytes = new byte[Math.max(capacity, 16)];
+    }
+    VarintBuffer(byte[] bytes, int size) {
+        this.bytes = bytes;
+        this.size = size;
+    }
+
+    byte[] bytes() {
+        return bytes;
+    }
+    int size() {
+        return size;
+    }
+    void clear() {
+        size = 0;
+        position = 0;
+    }
+
+    private void ensure(int extra) {
+        if (size + extra > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(2 * bytes.length, size + extra));
+        }
+    }
+
+    void putVarint(long value) {
+        ensure(10);
+        while ((value & ~0x7FL) != 0) {
+            bytes[size++] = (byte)((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[size++] = (byte)value;
+    }
+
+    void putZigzag(long value) {
+        putVarint((value << 1) ^ (value >> 63));
+    }
+
+    void putDouble(double value) {
+        ensure(8);
+        long bits = Double.doubleToRawLongBits(value);
+        for (var shift = 56; shift >= 0; shift -= 8) {
+            bytes[size++] = (byte)(bits >>> shift);
+        }
+    }
+
+    void put(byte[] b) {
+        ensure(b.length);
+        System.arraycopy(b, 0, bytes, size, b.length);
+        size += b.length;
+    }
+
+    long getVarint() throws InvalidMeshFile {
+        long value = 0;
+        for (var shift = 0; shift < 64; shift += 7) {
+            if (position >= size) {
+                throw new InvalidMeshFile("Truncated binary mesh.");
+            }
+            int b = bytes[position++];
+            value |= (long)(b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new InvalidMeshFile("Invalid varint.");
+    }
+
+    long getZigzag() throws InvalidMeshFile {
+        long value = getVarint();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    int getCount() throws InvalidMeshFile {
+        long value = getVarint();
+        if (value > Integer.MAX_VALUE) {
+            throw new InvalidMeshFile("Invalid count " + value + ".");
+        }
+        return (int)value;
+    }
+
+    double getDouble() throws InvalidMeshFile {
+        if (position + 8 > size) {
+            throw new InvalidMeshFile("Truncated binary mesh.");
+        }
+        long bits = 0;
+        for (var i = 0; i < 8; i++) {
+            bits = (bits << 8) | (bytes[position++] & 0xFF);
+        }
+        return Double.longBitsToDouble(bits);
+    }
+
+    byte[] get(int length) throws InvalidMeshFile {
+        if (position + length > size) {
+            throw new InvalidMeshFile("Truncated binary mesh.");
+        }
+        position += length;
+        return Arrays.copyOfRange(bytes, position - length, position);
+    }
+}
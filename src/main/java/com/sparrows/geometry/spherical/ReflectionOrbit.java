@@ -0,0 +1,213 @@
+package com.sparrows.geometry.spherical;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.sparrows.geometry.exception.NotEnoughSphericalVertices;
+import com.sparrows.geometry.utils.LongIntHashMap;
+import com.sparrows.geometry.utils.VertexIndex;
+
+/**
+ * <p>The orbit of a spherical triangle under the reflection group generated by a set of mirrors.</p>
+ * <p>Tiles are found breadth first: each tile found is reflected in every mirror in turn, and a reflection is a
+ * new tile unless a tile with the same vertices, in the same order, has already been found. Vertices are welded
+ * with a {@link VertexIndex}, so a tile is identified by its three vertex indices packed into one long, and
+ * checking whether a tile is new is a single hash lookup.</p>
+ * <p>Each tile carries the word in the generators (the mirrors, by index) which takes the seed to it, and
+ * words are as short as possible, so the first tile is the seed itself with the empty word.</p>
+ * <p>Tiles are only found as the stream is consumed. If the group is infinite (for instance, a triangle which
+ * doesn't tile the sphere), the orbit is too, so limit the stream.</p>
+ */
+public final class ReflectionOrbit {
+    private static final int INDEX_BITS = 21;
+    private static final int MAX_VERTICES = 1 << INDEX_BITS;
+
+    private final double[] seed;
+    private final double[] mirrors;
+
+    /**
+     * @param seed The triangle whose images are the tiles.
+     * @param mirrors The generators of the group.
+     */
+    public ReflectionOrbit(SphericalPolygon seed, List<GreatCircle> mirrors) {
+        if (seed.vertexCount() != 3) {
+            throw new IllegalArgumentException("The seed must be a triangle.");
+        }
+        this.seed = new double[9];
+        for (var i = 0; i < 3; i++) {
+            this.seed[3 * i] = seed.getVertex(i).getX();
+            this.seed[3 * i + 1] = seed.getVertex(i).getY();
+            this.seed[3 * i + 2] = seed.getVertex(i).getZ();
+        }
+        this.mirrors = new double[3 * mirrors.size()];
+        for (var m = 0; m < mirrors.size(); m++) {
+            this.mirrors[3 * m] = mirrors.get(m).getCentre().getX();
+            this.mirrors[3 * m + 1] = mirrors.get(m).getCentre().getY();
+            this.mirrors[3 * m + 2] = mirrors.get(m).getCentre().getZ();
+        }
+    }
+
+    public int mirrorCount() {
+        return mirrors.length / 3;
+    }
+
+    /**
+     * @return The tiles of the orbit, in breadth-first order.
+     */
+    public Stream<Tile> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new TileIterator(),
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * @return The triangles of the orbit, in breadth-first order.
+     */
+    public Stream<SphericalPolygon> triangles() {
+        return stream().map(Tile::getTriangle);
+    }
+
+    public static final class Tile {
+        private final SphericalPolygon triangle;
+        private final int[] word;
+
+        private Tile(SphericalPolygon triangle, int[] word) {
+            this.triangle = triangle;
+            this.word = word;
+        }
+
+        public SphericalPolygon getTriangle() {
+            return triangle;
+        }
+
+        /**
+         * @return The indices of the mirrors to reflect the seed in, in order, to get this tile.
+         */
+        public int[] getWord() {
+            return word.clone();
+        }
+
+        public int getLength() {
+            return word.length;
+        }
+    }
+
+    // the search state belongs to one stream, so each stream starts again from the seed
+    private class TileIterator implements Iterator<Tile> {
+        private final VertexIndex vertices = new VertexIndex();
+        private final List<SphericalPoint> points = new ArrayList<>();
+        private final LongIntHashMap found = new LongIntHashMap();
+        private int[] tileVertices = new int[3 * 16];
+        private int[] parent = new int[16];
+        private int[] mirror = new int[16];
+        private int tileCount;
+        private int expanded;
+        private int returned;
+
+        TileIterator() {
+            var a = vertex(seed[0], seed[1], seed[2]);
+            var b = vertex(seed[3], seed[4], seed[5]);
+            var c = vertex(seed[6], seed[7], seed[8]);
+            addTile(a, b, c, -1, -1);
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (returned == tileCount && expanded < tileCount) {
+                expand(expanded++);
+            }
+            return returned < tileCount;
+        }
+
+        @Override
+        public Tile next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return tile(returned++);
+        }
+
+        private void expand(int t) {
+            for (var m = 0; m < mirrors.length / 3; m++) {
+                var a = reflect(tileVertices[3 * t], m);
+                var b = reflect(tileVertices[3 * t + 1], m);
+                var c = reflect(tileVertices[3 * t + 2], m);
+                if (!found.containsKey(key(a, b, c))) {
+                    addTile(a, b, c, t, m);
+                }
+            }
+        }
+
+        private int reflect(int v, int m) {
+            double nx = mirrors[3 * m], ny = mirrors[3 * m + 1], nz = mirrors[3 * m + 2];
+            double x = vertices.getX(v), y = vertices.getY(v), z = vertices.getZ(v);
+            var d = 2 * (x * nx + y * ny + z * nz);
+            return vertex(x - d * nx, y - d * ny, z - d * nz);
+        }
+
+        private int vertex(double x, double y, double z) {
+            var v = vertices.find(x, y, z);
+            if (v < 0) {
+                if (vertices.size() == MAX_VERTICES) {
+                    throw new IllegalStateException("Too many vertices in the orbit.");
+                }
+                v = vertices.add(x, y, z);
+                points.add(null);
+            }
+            return v;
+        }
+
+        private void addTile(int a, int b, int c, int from, int m) {
+            if (tileCount == parent.length) {
+                tileVertices = Arrays.copyOf(tileVertices, 6 * tileCount);
+                parent = Arrays.copyOf(parent, 2 * tileCount);
+                mirror = Arrays.copyOf(mirror, 2 * tileCount);
+            }
+            tileVertices[3 * tileCount] = a;
+            tileVertices[3 * tileCount + 1] = b;
+            tileVertices[3 * tileCount + 2] = c;
+            parent[tileCount] = from;
+            mirror[tileCount] = m;
+            found.put(key(a, b, c), tileCount);
+            tileCount++;
+        }
+
+        private Tile tile(int t) {
+            var length = 0;
+            for (var s = t; parent[s] >= 0; s = parent[s]) {
+                length++;
+            }
+            var word = new int[length];
+            for (var s = t; parent[s] >= 0; s = parent[s]) {
+                word[--length] = mirror[s];
+            }
+            try {
+                return new Tile(new SphericalPolygon(point(tileVertices[3 * t]), point(tileVertices[3 * t + 1]),
+                        point(tileVertices[3 * t + 2])), word);
+            } catch (NotEnoughSphericalVertices e) {
+                // can't happen
+                throw new IllegalStateException(e);
+            }
+        }
+
+        // one SphericalPoint per welded vertex, shared by the tiles around it
+        private SphericalPoint point(int v) {
+            var p = points.get(v);
+            if (p == null) {
+                p = new SphericalPoint(vertices.getX(v), vertices.getY(v), vertices.getZ(v));
+                points.set(v, p);
+            }
+            return p;
+        }
+    }
+
+    private static long key(int a, int b, int c) {
+        return ((long) a << (2 * INDEX_BITS)) | ((long) b << INDEX_BITS) | c;
+    }
+}
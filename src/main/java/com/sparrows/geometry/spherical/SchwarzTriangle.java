@@ -3,6 +3,7 @@ package com.sparrows.geometry.spherical;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Stream;
 
 import com.sparrows.geometry.exception.AntipodalPoints;
 import com.sparrows.geometry.exception.DoesNotTileSphere;
@@ -13,6 +14,7 @@ import com.sparrows.geometry.exception.InvalidVertexAngles;
 import com.sparrows.geometry.maths.exceptions.ZeroDenominator;
 import com.sparrows.geometry.maths.Maths;
 import com.sparrows.geometry.maths.Rational;
+import com.sparrows.geometry.utils.Lazy;
 
 public class SchwarzTriangle {
     public enum SymmetryGroup {
@@ -32,14 +34,20 @@ public class SchwarzTriangle {
         }
     }
 
-    private static final List<SchwarzTriangle> all;
-    static {List<SchwarzTriangle> temp = null;
-        try {
-            temp = findAll();
-        } catch (ZeroDenominator | InvalidSchwarzTriangle e) {
-            e.printStackTrace();
+    // the largest symmetry group order, so a larger orbit means the group is infinite
+    private static final int MAX_TILES = 120;
+
+    // the Schwarz triangles are only found when they're first asked for
+    private static class All {
+        private static final List<SchwarzTriangle> all;
+        static {List<SchwarzTriangle> temp = null;
+            try {
+                temp = findAll();
+            } catch (ZeroDenominator | InvalidSchwarzTriangle e) {
+                e.printStackTrace();
+            }
+            all = temp;
         }
-        all = temp;
     }
 
     private final Rational p;
@@ -50,7 +58,7 @@ public class SchwarzTriangle {
     private final int symmetryGroupOrder;
     private final int tilingDensity;
 
-    private int tilingSize;
+    private final Lazy<Integer> tilingSize = new Lazy<>();
 
     /**
      * <p>A Schwarz triangle. This is defined by three rational numbers p, q and r which define the
@@ -61,12 +69,14 @@ public class SchwarzTriangle {
      * (3) The numerator of p, q, r must be between 2 and 5, unless it is a dihedral Schwarz triangle.
      * (4) Numerators 4 and 5 cannot both appear among p, q and r (otherwise, with an assumed group order of
      * 120, the covering density would not be an integer).</p>
+     * <p>Whether the triangle tiles the sphere isn't checked here, as it means finding the tiling: see
+     * {@link #tilesSphere()}.</p>
      * @param p first angle
      * @param q second angle
      * @param r third angle
      * @throws InvalidSchwarzTriangle If the restrictions on p, q and r are not met.
      */
-    public SchwarzTriangle(Rational p, Rational q, Rational r) throws InvalidSchwarzTriangle, DoesNotTileSphere {
+    public SchwarzTriangle(Rational p, Rational q, Rational r) throws InvalidSchwarzTriangle {
         this.p = p;
         this.q = q;
         this.r = r;
@@ -106,7 +116,6 @@ public class SchwarzTriangle {
                 throw new InvalidSchwarzTriangle("Unexpected error, density is not an integer.");
             }
         }
-        findTiling();
     }
 
     private void validate() throws InvalidSchwarzTriangle {
@@ -148,7 +157,7 @@ public class SchwarzTriangle {
     }
 
     public static List<SchwarzTriangle> getAll() {
-        return all;
+        return All.all;
     }
     public Rational getP() {
         return p;
@@ -168,8 +177,17 @@ public class SchwarzTriangle {
     public int getTilingDensity() {
         return tilingDensity;
     }
-    public int getTilingSize() {
-        return tilingSize;
+    /**
+     * @return The number of tiles in the tiling of the sphere by reflections of the triangle, which is found the
+     * first time it's asked for.
+     * @throws DoesNotTileSphere If the triangle doesn't tile the sphere.
+     */
+    public int getTilingSize() throws DoesNotTileSphere {
+        int size = tilingSize.get(this::findTilingSize);
+        if (size < 0) {
+            throw new DoesNotTileSphere();
+        }
+        return size;
     }
 
     /**
@@ -189,62 +207,47 @@ public class SchwarzTriangle {
         }
     }
 
-    private void findTiling() throws DoesNotTileSphere {
+    /**
+     * <p>The orbit of {@link #triangle()} under the reflections in its own sides.</p>
+     * @return The tiles of the orbit, found as the stream is consumed.
+     * @throws DoesNotTileSphere If the triangle doesn't tile the sphere.
+     */
+    public Stream<SphericalPolygon> tiles() throws DoesNotTileSphere {
+        if (!tilesSphere()) {
+            throw new DoesNotTileSphere();
+        }
+        return orbit().triangles();
+    }
+
+    /**
+     * <p>Whether the reflections of the triangle in its sides tile the sphere a whole number of times, which is
+     * found (and remembered) the first time it's asked for.</p>
+     */
+    public boolean tilesSphere() {
+        return tilingSize.get(this::findTilingSize) > 0;
+    }
+
+    private ReflectionOrbit orbit() {
+        SphericalPolygon candidateTriangle = triangle();
+        List<GreatCircle> mirrors = new ArrayList<>();
+        try {
+            mirrors.add(new GreatCircle(candidateTriangle.getVertex(0), candidateTriangle.getVertex(1)));
+            mirrors.add(new GreatCircle(candidateTriangle.getVertex(1), candidateTriangle.getVertex(2)));
+            mirrors.add(new GreatCircle(candidateTriangle.getVertex(2), candidateTriangle.getVertex(0)));
+        } catch (AntipodalPoints | IdenticalSphericalPoints e) {
+            // cannot happen
+            throw new IllegalStateException(e);
+        }
+        return new ReflectionOrbit(candidateTriangle, mirrors);
+    }
+
+    // the number of tiles, or -1 if there are too many for a finite tiling
+    private Integer findTilingSize() {
         if (this.getSymmetryGroup() == SymmetryGroup.DIHEDRAL) {
-            long numerator;
-            if (!p.equals(Rational.TWO)) {
-                numerator = p.getNumerator();
-            } else if (!q.equals(Rational.TWO)) {
-                numerator = q.getNumerator();
-            } else {
-                numerator = r.getNumerator();
-            }
-            this.tilingSize = 4*(int)numerator;
-        } else {
-            SphericalPolygon candidateTriangle = triangle();
-            List<GreatCircle> mirrors = new ArrayList<>();
-            try {
-                mirrors.add(new GreatCircle(candidateTriangle.getVertex(0), candidateTriangle.getVertex(1)));
-                mirrors.add(new GreatCircle(candidateTriangle.getVertex(1), candidateTriangle.getVertex(2)));
-                mirrors.add(new GreatCircle(candidateTriangle.getVertex(2), candidateTriangle.getVertex(0)));
-            } catch (AntipodalPoints | IdenticalSphericalPoints e) {
-                // cannot happen
-                e.printStackTrace();
-            }
-            List<SphericalPolygon> tileList = new ArrayList<>();
-            tileList.add(candidateTriangle);
-            for (var t = 0; t < tileList.size(); t++) {
-                for (var mirror : mirrors) {
-                    SphericalPolygon reflection = tileList.get(t).reflect(mirror);
-                    var found = false;
-                    for (var face : tileList) {
-                        if (/*reflection.identical(face)*/reflection.getVertex(0).identical(face.getVertex(0)) && reflection.getVertex(1).identical(face.getVertex(1)) && reflection.getVertex(2).identical(face.getVertex(2))) {
-                            found = true;
-                            break;
-                        }
-                    }
-                    if (!found) {
-                        tileList.add(reflection);
-                    }
-                }
-                if (tileList.size() > 120) {
-                    break;
-                }
-            }
-            if (tileList.size() > 120) {
-                throw new DoesNotTileSphere();
-            } else {
-                this.tilingSize = tileList.size();
-                try {
-                    var areaByPi = p.reciprocal().add(q.reciprocal()).add(r.reciprocal()).subtract(Rational.ONE);
-                    var tilesPerCovering = new Rational(4).divide(areaByPi);
-                    //this.tilingDensity = (int)(new Rational(tileList.size()).divide(tilesPerCovering).toDouble());
-                } catch (ZeroDenominator e) {
-                    // cannot happen
-                    e.printStackTrace();
-                }
-            }
+            return symmetryGroupOrder;
         }
+        var size = orbit().stream().limit(MAX_TILES + 1).count();
+        return size > MAX_TILES ? -1 : (int) size;
     }
 
     private static List<SchwarzTriangle> findAll() throws ZeroDenominator, InvalidSchwarzTriangle {
@@ -272,12 +275,9 @@ public class SchwarzTriangle {
                     } else if (p.equals(Rational.TWO) && (q.equals(Rational.TWO))) {
                         // ignore: dihedral symmetry
                     } else {
-                        try {
-                            var candidate = new SchwarzTriangle(p, q, r);
+                        var candidate = new SchwarzTriangle(p, q, r);
+                        if (candidate.tilesSphere()) {
                             all.add(candidate);
-                            //System.out.println(candidate + ": " + candidate.tilingSize + " - " + candidate.tilingDensity);
-                        } catch (DoesNotTileSphere e) {
-                            //System.out.println(e.getMessage());
                         }
                     }
                 }
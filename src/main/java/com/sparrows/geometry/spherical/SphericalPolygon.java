@@ -134,17 +134,21 @@ public class SphericalPolygon extends Polygon implements SphericalObject<Spheric
 
     private List<Double> vertexAngles;
     public double vertexAngle(int v) {
-        if (vertexAngles == null) {
-            vertexAngles = new ArrayList<>();
+        List<Double> angles = vertexAngles;
+        if (angles == null) {
+            // only publish the list once it is complete, as polygons are shared between threads
+            List<Double> newAngles = new ArrayList<>();
             for (var u = 0; u < vertexCount(); u++) {
                 try {
-                    vertexAngles.add(side((u + vertexCount() - 1) % vertexCount()).angle(side(u).reverse()));
+                    newAngles.add(side((u + vertexCount() - 1) % vertexCount()).angle(side(u).reverse()));
                 } catch (PointArc e) {
                     e.printStackTrace();
                 }
             }
+            angles = List.copyOf(newAngles);
+            vertexAngles = angles;
         }
-        return vertexAngles.get(v);
+        return angles.get(v);
     }
 
     private Boolean isEquiangular;
@@ -16,17 +16,17 @@ import com.sparrows.geometry.transformation.RotationalSymmetryAxis;
 import com.sparrows.geometry.transformation.Rotoreflection3;
 import com.sparrows.geometry.transformation.RotoreflectionalSymmetryAxis;
 import com.sparrows.geometry.transformation.SphericalTransformation;
+import com.sparrows.geometry.utils.Lazy;
 
 public class SphericalPolyhedron implements SphericalObject<SphericalPolyhedron> {
 
     private Point3 centroid = null;
-    private List<SphericalPoint> vertices = null;
-    private List<List<Integer>> vertexFaces = null;
-    private List<List<Integer>> vertexVertices = null;
-    private List<Arc> edges = null;
-    private List<List<Integer>> edgeFaces = null;
-    private List<List<Integer>> edgeSides = null;
-    private Boolean oriented = null;
+    // computed on first use and immutable, so a polyhedron can be shared between threads
+    private final Lazy<VertexData> vertexData = new Lazy<>(this::findVertices);
+    private final Lazy<EdgeData> edgeData = new Lazy<>(this::findEdges);
+    private final Lazy<FaceData> faceData = new Lazy<>(this::findFaces);
+    private final Lazy<Boolean> isFaceEquilateral = new Lazy<>(() -> getFaces().stream().allMatch(SphericalPolygon::isEquilateral));
+    private final Lazy<Boolean> isFaceEquiangular = new Lazy<>(() -> getFaces().stream().allMatch(SphericalPolygon::isEquiangular));
     private List<AffineTransformation3> symmetries = null;
     private Boolean inversionSymmetry = null;
     private List<Reflection3> reflectionSymmetries = null;
@@ -67,139 +67,174 @@ public class SphericalPolyhedron implements SphericalObject<SphericalPolyhedron>
         return edges().size();
     }
     public List<SphericalPoint> vertices() {
-        findVertices();
-        return vertices;
+        return vertexData.get().vertices;
     }
     public List<List<Integer>> vertexFaces() {
-        findVertices();
-        return vertexFaces;
+        return vertexData.get().vertexFaces;
     }
     public List<List<Integer>> vertexVertices() {
-        findVertices();
-        return vertexVertices;
-    }
-    private void findVertices() {
-        if (vertices == null) {
-            vertices = new ArrayList<>();
-            vertexFaces = new ArrayList<>();
-            vertexVertices = new ArrayList<>();
-            for (var f = 0; f < faceCount(); f++) {
-                SphericalPolygon face = getFace(f);
-                for (var v = 0; v < face.vertexCount(); v++) {
-                    SphericalPoint vertex = face.getVertex(v);
-                    var found = false;
-                    for (var i = 0; i < vertices.size(); i++) {
-                        if (vertex.identical(vertices.get(i))) {
-                            vertexFaces.get(i).add(f);
-                            vertexVertices.get(i).add(v);
-                            found = true;
-                            break;
-                        }
-                    }
-                    if (!found) {
-                        vertices.add(face.getVertex(v));
-                        ArrayList<Integer> x = new ArrayList<>();
-                        x.add(f);
-                        vertexFaces.add(x);
-                        ArrayList<Integer> y = new ArrayList<>();
-                        y.add(v);
-                        vertexVertices.add(y);
+        return vertexData.get().vertexVertices;
+    }
+
+    private static class VertexData {
+        private final List<SphericalPoint> vertices;
+        private final List<List<Integer>> vertexFaces;
+        private final List<List<Integer>> vertexVertices;
+
+        private VertexData(List<SphericalPoint> vertices, List<List<Integer>> vertexFaces, List<List<Integer>> vertexVertices) {
+            this.vertices = List.copyOf(vertices);
+            this.vertexFaces = immutable(vertexFaces);
+            this.vertexVertices = immutable(vertexVertices);
+        }
+    }
+
+    private VertexData findVertices() {
+        List<SphericalPoint> vertices = new ArrayList<>();
+        List<List<Integer>> vertexFaces = new ArrayList<>();
+        List<List<Integer>> vertexVertices = new ArrayList<>();
+        for (var f = 0; f < faceCount(); f++) {
+            SphericalPolygon face = getFace(f);
+            for (var v = 0; v < face.vertexCount(); v++) {
+                SphericalPoint vertex = face.getVertex(v);
+                var found = false;
+                for (var i = 0; i < vertices.size(); i++) {
+                    if (vertex.identical(vertices.get(i))) {
+                        vertexFaces.get(i).add(f);
+                        vertexVertices.get(i).add(v);
+                        found = true;
+                        break;
                     }
                 }
+                if (!found) {
+                    vertices.add(face.getVertex(v));
+                    ArrayList<Integer> x = new ArrayList<>();
+                    x.add(f);
+                    vertexFaces.add(x);
+                    ArrayList<Integer> y = new ArrayList<>();
+                    y.add(v);
+                    vertexVertices.add(y);
+                }
             }
         }
+        return new VertexData(vertices, vertexFaces, vertexVertices);
     }
 
     public List<Arc> edges() {
-        findEdges();
-        return edges;
+        return edgeData.get().edges;
     }
     public List<List<Integer>> edgeFaces() {
-        findEdges();
-        return edgeFaces;
+        return edgeData.get().edgeFaces;
     }
     public List<List<Integer>> edgeSides() {
-        findEdges();
-        return edgeSides;
+        return edgeData.get().edgeSides;
     }
     public boolean oriented() {
-        findEdges();
-        return oriented;
-    }
-    private void findEdges() {
-        if (edges == null) {
-            oriented = true;
-            edges = new ArrayList<>();
-            edgeFaces = new ArrayList<>();
-            edgeSides = new ArrayList<>();
-            for (var f = 0; f < faceCount(); f++) {
-                SphericalPolygon face = getFace(f);
-                for (var v = 0; v < face.vertexCount(); v++) {
-                    Arc side = face.side(v);
-                    var found = false;
-                    for (var i = 0; i < edges.size(); i++) {
-                        if (side.identicalOrOpposite(edges.get(i))) {
-                            edgeFaces.get(i).add(f);
-                            edgeSides.get(i).add(v);
-                            if (side.identical(edges.get(i))) {
-                                oriented = false;
-                            }
-                            found = true;
-                            break;
+        return edgeData.get().oriented;
+    }
+
+    private static class EdgeData {
+        private final List<Arc> edges;
+        private final List<List<Integer>> edgeFaces;
+        private final List<List<Integer>> edgeSides;
+        private final boolean oriented;
+
+        private EdgeData(List<Arc> edges, List<List<Integer>> edgeFaces, List<List<Integer>> edgeSides, boolean oriented) {
+            this.edges = List.copyOf(edges);
+            this.edgeFaces = immutable(edgeFaces);
+            this.edgeSides = immutable(edgeSides);
+            this.oriented = oriented;
+        }
+    }
+
+    private EdgeData findEdges() {
+        var oriented = true;
+        List<Arc> edges = new ArrayList<>();
+        List<List<Integer>> edgeFaces = new ArrayList<>();
+        List<List<Integer>> edgeSides = new ArrayList<>();
+        for (var f = 0; f < faceCount(); f++) {
+            SphericalPolygon face = getFace(f);
+            for (var v = 0; v < face.vertexCount(); v++) {
+                Arc side = face.side(v);
+                var found = false;
+                for (var i = 0; i < edges.size(); i++) {
+                    if (side.identicalOrOpposite(edges.get(i))) {
+                        edgeFaces.get(i).add(f);
+                        edgeSides.get(i).add(v);
+                        if (side.identical(edges.get(i))) {
+                            oriented = false;
                         }
-                    }
-                    if (!found) {
-                        edges.add(side);
-                        ArrayList<Integer> x = new ArrayList<>();
-                        x.add(f);
-                        edgeFaces.add(x);
-                        ArrayList<Integer> y = new ArrayList<>();
-                        y.add(v);
-                        edgeSides.add(y);
+                        found = true;
+                        break;
                     }
                 }
+                if (!found) {
+                    edges.add(side);
+                    ArrayList<Integer> x = new ArrayList<>();
+                    x.add(f);
+                    edgeFaces.add(x);
+                    ArrayList<Integer> y = new ArrayList<>();
+                    y.add(v);
+                    edgeSides.add(y);
+                }
             }
         }
+        return new EdgeData(edges, edgeFaces, edgeSides, oriented);
+    }
+
+    private static List<List<Integer>> immutable(List<List<Integer>> lists) {
+        return lists.stream().map(List::copyOf).collect(Collectors.toUnmodifiableList());
+    }
+
+    // for each side of each face, the faces and their sides which border it
+    private static class FaceData {
+        private final List<Integer>[][] faceFaces;
+        private final List<Integer>[][] faceSides;
+
+        private FaceData(List<Integer>[][] faceFaces, List<Integer>[][] faceSides) {
+            this.faceFaces = faceFaces;
+            this.faceSides = faceSides;
+        }
     }
 
-    List<Integer>[][] faceFaces;
-    List<Integer>[][] faceSides;
     public void findFaceData() {
-        if (faceFaces == null) {
-            findEdges();
-            faceFaces = new ArrayList[faces.size()][];
-            faceSides = new ArrayList[faces.size()][];
-
-            for (var f = 0; f < faceCount(); f++) {
-                faceFaces[f] = new ArrayList[faces.get(f).vertexCount()];
-                faceSides[f] = new ArrayList[faces.get(f).vertexCount()];
-                for (var s = 0; s < faces.get(f).vertexCount(); s++) {
-                    faceFaces[f][s] = new ArrayList<>();
-                    faceSides[f][s] = new ArrayList<>();
-                }
+        faceData.get();
+    }
+    private FaceData findFaces() {
+        List<List<Integer>> edgeFaces = edgeFaces();
+        List<List<Integer>> edgeSides = edgeSides();
+        List<Integer>[][] faceFaces = new ArrayList[faces.size()][];
+        List<Integer>[][] faceSides = new ArrayList[faces.size()][];
+
+        for (var f = 0; f < faceCount(); f++) {
+            faceFaces[f] = new ArrayList[faces.get(f).vertexCount()];
+            faceSides[f] = new ArrayList[faces.get(f).vertexCount()];
+            for (var s = 0; s < faces.get(f).vertexCount(); s++) {
+                faceFaces[f][s] = new ArrayList<>();
+                faceSides[f][s] = new ArrayList<>();
             }
+        }
 
-            for (var e = 0; e < edgeFaces.size(); e++) {
-                for (var i = 0; i < edgeFaces.get(e).size(); i++) {
-                    // edge e borders face edgeFaces[e][i]
-                    //                edge edgeSides[e][i]
-                    // so face edgeFaces[e][i] edge edgeSides[e][i] borders the rest
-                    for (var j = 0; j < edgeFaces.get(e).size(); j++) {
-                        if (i != j) {
-                            // face edgeFaces[e][i] edge edgeSides[e][i] borders face edgeFaces[e][j] edge edgeSides[e][j]
-                            //System.out.println("face " + edgeFaces.get(e).get(i) + " edge " + edgeSides.get(e).get(i) + " adjoins " +
-                              //      "face " + edgeFaces.get(e).get(j) + " edge " + edgeSides.get(e).get(j));
-                            faceFaces[edgeFaces.get(e).get(i)][edgeSides.get(e).get(i)].add(edgeFaces.get(e).get(j));
-                            faceSides[edgeFaces.get(e).get(i)][edgeSides.get(e).get(i)].add(edgeSides.get(e).get(j));
-                        }
+        for (var e = 0; e < edgeFaces.size(); e++) {
+            for (var i = 0; i < edgeFaces.get(e).size(); i++) {
+                // edge e borders face edgeFaces[e][i]
+                //                edge edgeSides[e][i]
+                // so face edgeFaces[e][i] edge edgeSides[e][i] borders the rest
+                for (var j = 0; j < edgeFaces.get(e).size(); j++) {
+                    if (i != j) {
+                        // face edgeFaces[e][i] edge edgeSides[e][i] borders face edgeFaces[e][j] edge edgeSides[e][j]
+                        //System.out.println("face " + edgeFaces.get(e).get(i) + " edge " + edgeSides.get(e).get(i) + " adjoins " +
+                          //      "face " + edgeFaces.get(e).get(j) + " edge " + edgeSides.get(e).get(j));
+                        faceFaces[edgeFaces.get(e).get(i)][edgeSides.get(e).get(i)].add(edgeFaces.get(e).get(j));
+                        faceSides[edgeFaces.get(e).get(i)][edgeSides.get(e).get(i)].add(edgeSides.get(e).get(j));
                     }
                 }
             }
         }
+        return new FaceData(faceFaces, faceSides);
     }
 
     public List<SphericalPolyhedron> split() throws NotEnoughSphericalFaces {
-        findFaceData();
+        List<Integer>[][] faceFaces = faceData.get().faceFaces;
 
         List<SphericalPolyhedron> splitList = new ArrayList<>();
         List<SphericalPolygon> faceList;
@@ -236,14 +271,16 @@ public class SphericalPolyhedron implements SphericalObject<SphericalPolyhedron>
             face.validate();
         }
         // each vertex has at least 2 faces
-        findVertices();
+        List<SphericalPoint> vertices = vertices();
+        List<List<Integer>> vertexFaces = vertexFaces();
         for (var v = 0; v < vertices.size(); v++) {
             if (vertexFaces.get(v).size() < 2) {
                 throw new InvalidSphericalVertex(vertices.get(v), vertexFaces.get(v).size());
             }
         }
         // each side matches precisely one other on another face
-        findEdges();
+        List<Arc> edges = edges();
+        List<List<Integer>> edgeFaces = edgeFaces();
         for (var v = 0; v < edges.size(); v++) {
             if (edgeFaces.get(v).size() != 2) {
                 throw new InvalidEdgeException(edges.get(v), edgeFaces.get(v).size());
@@ -535,20 +572,12 @@ public class SphericalPolyhedron implements SphericalObject<SphericalPolyhedron>
         }
     }
 
-    private Boolean isFaceEquilateral;
     public boolean isFaceEquilateral() {
-        if (isFaceEquilateral == null) {
-            isFaceEquilateral = faces.stream().allMatch(SphericalPolygon::isEquilateral);
-        }
-        return isFaceEquilateral;
+        return isFaceEquilateral.get();
     }
 
-    private Boolean isFaceEquiangular;
     public boolean isFaceEquiangular() {
-        if (isFaceEquiangular == null) {
-            isFaceEquiangular = faces.stream().allMatch(SphericalPolygon::isEquiangular);
-        }
-        return isFaceEquiangular;
+        return isFaceEquiangular.get();
     }
 
     public boolean isFaceRegular() {
@@ -4,6 +4,8 @@ import com.sparrows.geometry.exception.TransformationNotInvertible;
 import org.ejml.data.SingularMatrixException;
 import org.ejml.simple.SimpleMatrix;
 
+import java.util.Objects;
+
 public class AffineTransformation2 {
     protected final SimpleMatrix matrix;
 
@@ -67,6 +69,23 @@ public class AffineTransformation2 {
                 }));
     }
 
+    /**
+     * <p>Transform points packed as x, y pairs, overwriting their coordinates.</p>
+     * @param offset The index in xy of the x coordinate of the first point.
+     * @param count The number of points.
+     */
+    public void transformInPlace(double[] xy, int offset, int count) {
+        Objects.checkFromIndexSize(offset, 2 * count, xy.length);
+        double m00 = matrix.get(0, 0), m01 = matrix.get(0, 1), m02 = matrix.get(0, 2);
+        double m10 = matrix.get(1, 0), m11 = matrix.get(1, 1), m12 = matrix.get(1, 2);
+        for (int i = offset, end = offset + 2 * count; i < end; i += 2) {
+            double x = xy[i];
+            double y = xy[i + 1];
+            xy[i] = m00 * x + m01 * y + m02;
+            xy[i + 1] = m10 * x + m11 * y + m12;
+        }
+    }
+
     public AffineTransformation2 inverse() throws TransformationNotInvertible {
         try {
             return new AffineTransformation2(matrix.invert());
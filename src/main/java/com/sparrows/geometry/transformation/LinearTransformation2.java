@@ -4,6 +4,8 @@ import com.sparrows.geometry.exception.TransformationNotInvertible;
 import org.ejml.data.SingularMatrixException;
 import org.ejml.simple.SimpleMatrix;
 
+import java.util.Objects;
+
 public class LinearTransformation2 {
     private final SimpleMatrix matrix;
 
@@ -15,6 +17,23 @@ public class LinearTransformation2 {
         return matrix;
     }
 
+    /**
+     * <p>Transform points or vectors packed as x, y pairs, overwriting their coordinates.</p>
+     * @param offset The index in xy of the x coordinate of the first point.
+     * @param count The number of points.
+     */
+    public void transformInPlace(double[] xy, int offset, int count) {
+        Objects.checkFromIndexSize(offset, 2 * count, xy.length);
+        double m00 = matrix.get(0, 0), m01 = matrix.get(0, 1);
+        double m10 = matrix.get(1, 0), m11 = matrix.get(1, 1);
+        for (int i = offset, end = offset + 2 * count; i < end; i += 2) {
+            double x = xy[i];
+            double y = xy[i + 1];
+            xy[i] = m00 * x + m01 * y;
+            xy[i + 1] = m10 * x + m11 * y;
+        }
+    }
+
     public LinearTransformation2 inverse() throws TransformationNotInvertible {
         try {
             return new LinearTransformation2(matrix.invert());
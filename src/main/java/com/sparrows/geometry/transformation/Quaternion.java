@@ -0,0 +1,272 @@
+package com.sparrows.geometry.transformation;
+
+import com.sparrows.geometry.exception.InvalidSphericalTransformation;
+import com.sparrows.geometry.geometry3.Vector3;
+import com.sparrows.geometry.maths.Maths;
+import com.sparrows.geometry.spherical.SphericalPoint;
+import com.sparrows.geometry.transformation.d3.LinearTransformation3;
+
+import org.ejml.simple.SimpleMatrix;
+
+import java.util.Objects;
+
+/**
+ * <p>A rotation about the origin held as a unit quaternion w + xi + yj + zk.</p>
+ * <p>The rotation by angle a about the unit vector u is cos(a/2) + sin(a/2)u, and q and -q are the same rotation.
+ * Composing two rotations costs 16 multiplications rather than a matrix product, and renormalising the result
+ * keeps long chains of compositions from drifting away from a rotation.</p>
+ */
+public final class Quaternion {
+    public static final Quaternion IDENTITY = new Quaternion(1, 0, 0, 0);
+
+    private final double w;
+    private final double x;
+    private final double y;
+    private final double z;
+
+    // Constructors
+    public Quaternion(double w, double x, double y, double z) {
+        this.w = w;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    /**
+     * @return The rotation by the given angle about the given axis through the origin, using the right-hand rule.
+     */
+    public static Quaternion fromAxisAngle(Vector3 axis, double angle) {
+        var u = axis.unit();
+        double s = Math.sin(angle / 2);
+        return new Quaternion(Math.cos(angle / 2), s * u.getX(), s * u.getY(), s * u.getZ());
+    }
+    public static Quaternion fromAxisAngle(SphericalPoint centre, double angle) {
+        return fromAxisAngle(new Vector3(centre), angle);
+    }
+
+    /**
+     * @param matrix A 3x3 rotation matrix.
+     * @return The rotation, with w non-negative.
+     */
+    public static Quaternion fromMatrix(SimpleMatrix matrix) {
+        if (!Maths.equal(matrix.determinant(), 1.0)) {
+            throw new IllegalArgumentException("Not a rotation.");
+        }
+        double m00 = matrix.get(0, 0), m01 = matrix.get(0, 1), m02 = matrix.get(0, 2);
+        double m10 = matrix.get(1, 0), m11 = matrix.get(1, 1), m12 = matrix.get(1, 2);
+        double m20 = matrix.get(2, 0), m21 = matrix.get(2, 1), m22 = matrix.get(2, 2);
+        double trace = m00 + m11 + m22;
+        Quaternion q;
+        // divide by the largest of the four components to keep the result accurate
+        if (trace > 0) {
+            double s = 2 * Math.sqrt(1 + trace);
+            q = new Quaternion(s / 4, (m21 - m12) / s, (m02 - m20) / s, (m10 - m01) / s);
+        } else if (m00 > m11 && m00 > m22) {
+            double s = 2 * Math.sqrt(1 + m00 - m11 - m22);
+            q = new Quaternion((m21 - m12) / s, s / 4, (m01 + m10) / s, (m02 + m20) / s);
+        } else if (m11 > m22) {
+            double s = 2 * Math.sqrt(1 + m11 - m00 - m22);
+            q = new Quaternion((m02 - m20) / s, (m01 + m10) / s, s / 4, (m12 + m21) / s);
+        } else {
+            double s = 2 * Math.sqrt(1 + m22 - m00 - m11);
+            q = new Quaternion((m10 - m01) / s, (m02 + m20) / s, (m12 + m21) / s, s / 4);
+        }
+        return (q.w < 0 ? q.negate() : q).normalise();
+    }
+    public static Quaternion fromLinearTransformation(LinearTransformation3 t) {
+        return fromMatrix(t.getMatrix());
+    }
+    public static Quaternion fromSphericalTransformation(SphericalTransformation t) {
+        return fromMatrix(t.getMatrix());
+    }
+
+    // Getters
+    public double getW() {
+        return w;
+    }
+    public double getX() {
+        return x;
+    }
+    public double getY() {
+        return y;
+    }
+    public double getZ() {
+        return z;
+    }
+
+    /**
+     * @return The angle of the rotation, between 0 and 2π.
+     */
+    public double angle() {
+        return 2 * Math.atan2(Math.sqrt(x * x + y * y + z * z), w);
+    }
+    /**
+     * @return The unit axis of the rotation, or the z axis for the identity.
+     */
+    public Vector3 axis() {
+        double s = Math.sqrt(x * x + y * y + z * z);
+        if (Maths.equal(s, 0)) {
+            return Vector3.Z_UNIT;
+        }
+        return new Vector3(x / s, y / s, z / s);
+    }
+
+    // Comparison
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        var q = (Quaternion) o;
+        return Double.compare(q.w, w) == 0 && Double.compare(q.x, x) == 0 && Double.compare(q.y, y) == 0 && Double.compare(q.z, z) == 0;
+    }
+    @Override
+    public int hashCode() {
+        return Objects.hash(w, x, y, z);
+    }
+    /**
+     * @return Whether the two are the same rotation, remembering that q and -q are.
+     */
+    public boolean identical(Quaternion q) {
+        // component by component, since |q.p| is only cos(a/2) of the angle between them, which is flat near 1
+        return componentsEqual(q, 1) || componentsEqual(q, -1);
+    }
+    private boolean componentsEqual(Quaternion q, double sign) {
+        return Maths.equal(w, sign * q.w) && Maths.equal(x, sign * q.x)
+                && Maths.equal(y, sign * q.y) && Maths.equal(z, sign * q.z);
+    }
+
+    // Arithmetic
+    public double norm() {
+        return Math.sqrt(dot(this));
+    }
+    public double dot(Quaternion q) {
+        return w * q.w + x * q.x + y * q.y + z * q.z;
+    }
+    public Quaternion normalise() {
+        double n = norm();
+        if (Maths.equal(n, 0)) {
+            throw new IllegalArgumentException("Zero quaternion.");
+        }
+        return new Quaternion(w / n, x / n, y / n, z / n);
+    }
+    public Quaternion negate() {
+        return new Quaternion(-w, -x, -y, -z);
+    }
+    public Quaternion conjugate() {
+        return new Quaternion(w, -x, -y, -z);
+    }
+    // the inverse of a unit quaternion is its conjugate
+    public Quaternion inverse() {
+        return conjugate();
+    }
+    // the Hamilton product 'this' q, i.e. q followed by 'this'
+    public Quaternion multiply(Quaternion q) {
+        return new Quaternion(
+                w * q.w - x * q.x - y * q.y - z * q.z,
+                w * q.x + x * q.w + y * q.z - z * q.y,
+                w * q.y - x * q.z + y * q.w + z * q.x,
+                w * q.z + x * q.y - y * q.x + z * q.w);
+    }
+    // compose rotation to form 'this' followed by 'q'
+    public Quaternion compose(Quaternion q) {
+        return q.multiply(this);
+    }
+
+    /**
+     * <p>Spherical linear interpolation, along the shorter arc between the two rotations.</p>
+     * @param t 0 for this rotation, 1 for q.
+     */
+    public Quaternion slerp(Quaternion q, double t) {
+        double cosTheta = dot(q);
+        var end = q;
+        if (cosTheta < 0) {
+            cosTheta = -cosTheta;
+            end = q.negate();
+        }
+        double a;
+        double b;
+        if (cosTheta > 1 - Maths.ERROR_MARGIN) {
+            // too close for sin(theta) to divide by, so interpolate linearly
+            a = 1 - t;
+            b = t;
+        } else {
+            double theta = Math.acos(cosTheta);
+            double sinTheta = Math.sin(theta);
+            a = Math.sin((1 - t) * theta) / sinTheta;
+            b = Math.sin(t * theta) / sinTheta;
+        }
+        return new Quaternion(a * w + b * end.w, a * x + b * end.x, a * y + b * end.y, a * z + b * end.z).normalise();
+    }
+
+    // Rotation
+    public Vector3 rotate(Vector3 v) {
+        var xyz = new double[] {v.getX(), v.getY(), v.getZ()};
+        transformInPlace(xyz, 0, 1);
+        return new Vector3(xyz[0], xyz[1], xyz[2]);
+    }
+    public SphericalPoint rotate(SphericalPoint p) {
+        var xyz = new double[] {p.getX(), p.getY(), p.getZ()};
+        transformInPlace(xyz, 0, 1);
+        return new SphericalPoint(xyz[0], xyz[1], xyz[2]);
+    }
+
+    /**
+     * <p>Rotate points or vectors packed as x, y, z triples, overwriting their coordinates.</p>
+     * <p>The quaternion is converted to a matrix once, so each point costs nine multiplications.</p>
+     * @param offset The index in xyz of the x coordinate of the first point.
+     * @param count The number of points.
+     */
+    public void transformInPlace(double[] xyz, int offset, int count) {
+        Objects.checkFromIndexSize(offset, 3 * count, xyz.length);
+        var m = entries();
+        double m00 = m[0], m01 = m[1], m02 = m[2];
+        double m10 = m[3], m11 = m[4], m12 = m[5];
+        double m20 = m[6], m21 = m[7], m22 = m[8];
+        for (int i = offset, end = offset + 3 * count; i < end; i += 3) {
+            double px = xyz[i];
+            double py = xyz[i + 1];
+            double pz = xyz[i + 2];
+            xyz[i] = m00 * px + m01 * py + m02 * pz;
+            xyz[i + 1] = m10 * px + m11 * py + m12 * pz;
+            xyz[i + 2] = m20 * px + m21 * py + m22 * pz;
+        }
+    }
+
+    // Conversion
+    public SimpleMatrix matrix() {
+        var m = entries();
+        return new SimpleMatrix(new double[][] {
+                {m[0], m[1], m[2]},
+                {m[3], m[4], m[5]},
+                {m[6], m[7], m[8]}
+        });
+    }
+    public LinearTransformation3 linearTransformation() {
+        return new LinearTransformation3(matrix());
+    }
+    public SphericalTransformation sphericalTransformation() {
+        try {
+            return new SphericalTransformation(normalise().matrix());
+        } catch (InvalidSphericalTransformation e) {
+            return null; // can't happen as the matrix of a unit quaternion is a rotation
+        }
+    }
+
+    // the rotation matrix in row order, dividing by the norm so that it is a rotation even if q isn't quite a unit
+    private double[] entries() {
+        double s = 2 / dot(this);
+        double xx = s * x * x, yy = s * y * y, zz = s * z * z;
+        double xy = s * x * y, xz = s * x * z, yz = s * y * z;
+        double wx = s * w * x, wy = s * w * y, wz = s * w * z;
+        return new double[] {
+                1 - yy - zz, xy - wz, xz + wy,
+                xy + wz, 1 - xx - zz, yz - wx,
+                xz - wy, yz + wx, 1 - xx - yy
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "(" + w + "," + x + "," + y + "," + z + ")";
+    }
+}
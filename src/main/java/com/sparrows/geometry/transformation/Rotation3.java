@@ -1,19 +1,24 @@
 package com.sparrows.geometry.transformation;
 
-import com.sparrows.geometry.exception.GeometryException;
 import com.sparrows.geometry.geometry3.Line3;
-import com.sparrows.geometry.geometry3.Vector3;
 import com.sparrows.geometry.transformation.d3.AffineTransformation3;
-import com.sparrows.geometry.transformation.d3.LinearTransformation3;
 
 import org.ejml.simple.SimpleMatrix;
 
+/**
+ * <p>A rotation of 3D space about a line.</p>
+ * <p>The matrix is filled in one step from Rodrigues' formula: the linear part R is rotation about the
+ * unit direction of the axis, and the translation is p - Rp for the point p on the axis, so that the axis is fixed.</p>
+ */
 public class Rotation3 extends AffineTransformation3 {
     private final Line3 axis;
     private final double angle;
 
+    /**
+     * <p>The rotation by the angle, in radians, about the axis, anticlockwise looking back along its direction.</p>
+     */
     public Rotation3(Line3 axis, double angle) {
-        super(matrix(axis, angle));
+        super(entries(axis, angle));
         this.axis = axis;
         this.angle = angle;
     }
@@ -27,14 +32,36 @@ public class Rotation3 extends AffineTransformation3 {
     }
 
     public static SimpleMatrix matrix(Line3 axis, double angle) {
-        var shift1 = new Translation3(new Vector3(axis.getPoint()).negate());
-        LinearTransformation3 rotateOrigin = null;
-        try {
-            rotateOrigin = new RotationOrigin3(axis.getVector(),angle);
-        } catch (GeometryException e) {
-            // can't happen
-        }
-        var shift2 = new Translation3(new Vector3(axis.getPoint()));
-        return new AffineTransformation3(shift1).compose(new AffineTransformation3(rotateOrigin)).compose(new AffineTransformation3(shift2)).getMatrix();
+        return new AffineTransformation3(entries(axis, angle)).getMatrix();
+    }
+
+    /**
+     * @return The first three rows of the matrix of the rotation, in row order.
+     */
+    public static double[] entries(Line3 axis, double angle) {
+        double x = axis.getVector().getX();
+        double y = axis.getVector().getY();
+        double z = axis.getVector().getZ();
+        double px = axis.getPoint().getX();
+        double py = axis.getPoint().getY();
+        double pz = axis.getPoint().getZ();
+        double c = Math.cos(angle);
+        double s = Math.sin(angle);
+        double t = 1 - c;
+
+        double r00 = x * x * t + c;
+        double r01 = x * y * t - z * s;
+        double r02 = x * z * t + y * s;
+        double r10 = x * y * t + z * s;
+        double r11 = y * y * t + c;
+        double r12 = y * z * t - x * s;
+        double r20 = x * z * t - y * s;
+        double r21 = y * z * t + x * s;
+        double r22 = z * z * t + c;
+        return new double[] {
+                r00, r01, r02, px - (r00 * px + r01 * py + r02 * pz),
+                r10, r11, r12, py - (r10 * px + r11 * py + r12 * pz),
+                r20, r21, r22, pz - (r20 * px + r21 * py + r22 * pz)
+        };
     }
 }
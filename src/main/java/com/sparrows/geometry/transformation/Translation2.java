@@ -3,6 +3,8 @@ package com.sparrows.geometry.transformation;
 import com.sparrows.geometry.geometry2.Vector2;
 import org.ejml.simple.SimpleMatrix;
 
+import java.util.Objects;
+
 public class Translation2 {
     private final SimpleMatrix matrix;
 
@@ -22,6 +24,20 @@ public class Translation2 {
         return matrix;
     }
 
+    /**
+     * <p>Translate points packed as x, y pairs, overwriting their coordinates.</p>
+     * @param offset The index in xy of the x coordinate of the first point.
+     * @param count The number of points.
+     */
+    public void transformInPlace(double[] xy, int offset, int count) {
+        Objects.checkFromIndexSize(offset, 2 * count, xy.length);
+        double dx = matrix.get(0, 0), dy = matrix.get(1, 0);
+        for (int i = offset, end = offset + 2 * count; i < end; i += 2) {
+            xy[i] += dx;
+            xy[i + 1] += dy;
+        }
+    }
+
     public Translation2 inverse() {
         return new Translation2(matrix.negative());
     }
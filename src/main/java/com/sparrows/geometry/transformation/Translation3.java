@@ -3,6 +3,8 @@ package com.sparrows.geometry.transformation;
 import com.sparrows.geometry.geometry3.Vector3;
 import org.ejml.simple.SimpleMatrix;
 
+import java.util.Objects;
+
 public class Translation3 {
     private final SimpleMatrix matrix;
 
@@ -22,6 +24,21 @@ public class Translation3 {
         return matrix;
     }
 
+    /**
+     * <p>Translate points packed as x, y, z triples, overwriting their coordinates.</p>
+     * @param offset The index in xyz of the x coordinate of the first point.
+     * @param count The number of points.
+     */
+    public void transformInPlace(double[] xyz, int offset, int count) {
+        Objects.checkFromIndexSize(offset, 3 * count, xyz.length);
+        double dx = matrix.get(0, 0), dy = matrix.get(1, 0), dz = matrix.get(2, 0);
+        for (int i = offset, end = offset + 3 * count; i < end; i += 3) {
+            xyz[i] += dx;
+            xyz[i + 1] += dy;
+            xyz[i + 2] += dz;
+        }
+    }
+
     public Translation3 inverse() {
         return new Translation3(matrix.negative());
     }
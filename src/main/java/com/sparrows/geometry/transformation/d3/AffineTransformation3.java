@@ -7,99 +7,163 @@ import com.sparrows.geometry.transformation.Translation3;
 import org.ejml.data.SingularMatrixException;
 import org.ejml.simple.SimpleMatrix;
 
+import java.util.Objects;
+
+/**
+ * <p>An affine transformation of 3D space.</p>
+ * <p>The transformation is held as the first three rows of its 4x4 matrix, a 3x4 array of twelve doubles
+ * in row order, as the last row is always 0 0 0 1. Applying and composing transformations works on that
+ * array directly; the EJML matrix is only built when {@link #getMatrix()} asks for it.</p>
+ */
 public class AffineTransformation3 {
-    private final SimpleMatrix matrix;
+    private final double[] entries;
+    private volatile SimpleMatrix matrix;
 
+    // the matrix is copied, not kept, so changing it afterwards doesn't change the transformation
     public AffineTransformation3(SimpleMatrix matrix) {
-        this.matrix = matrix;
+        this.entries = new double[12];
+        for (var row = 0; row < 3; row++) {
+            for (var col = 0; col < 4; col++) {
+                entries[4 * row + col] = matrix.get(row, col);
+            }
+        }
+    }
+
+    /**
+     * @param entries The first three rows of the matrix, in row order.
+     */
+    public AffineTransformation3(double[] entries) {
+        if (entries.length != 12) {
+            throw new IllegalArgumentException("An affine transformation needs 12 entries.");
+        }
+        this.entries = entries.clone();
     }
 
     public AffineTransformation3(LinearTransformation3 linearTransformation, Translation3 translation) {
-        matrix = affineMatrix(linearTransformation, translation);
+        this(linearTransformation);
+        entries[3] = translation.getMatrix().get(0,0);
+        entries[7] = translation.getMatrix().get(1,0);
+        entries[11] = translation.getMatrix().get(2,0);
     }
 
     public AffineTransformation3(LinearTransformation3 linearTransformation) {
-        matrix = affineMatrix(linearTransformation);
+        entries = new double[12];
+        SimpleMatrix m = linearTransformation.getMatrix();
+        for (var row = 0; row < 3; row++) {
+            for (var col = 0; col < 3; col++) {
+                entries[4 * row + col] = m.get(row, col);
+            }
+        }
     }
 
     public AffineTransformation3(Translation3 translation) {
-        matrix = affineMatrix(translation);
+        entries = new double[] {
+                1, 0, 0, translation.getMatrix().get(0,0),
+                0, 1, 0, translation.getMatrix().get(1,0),
+                0, 0, 1, translation.getMatrix().get(2,0)
+        };
     }
 
 
     public SimpleMatrix getMatrix() {
-        return matrix;
+        SimpleMatrix m = matrix;
+        if (m == null) {
+            m = new SimpleMatrix(new double[][]{
+                    {entries[0], entries[1], entries[2], entries[3]},
+                    {entries[4], entries[5], entries[6], entries[7]},
+                    {entries[8], entries[9], entries[10], entries[11]},
+                    {0,0,0,1}
+            });
+            matrix = m;
+        }
+        return m;
+    }
+
+    /**
+     * @return The entry in the given row and column of the 4x4 matrix.
+     */
+    public double get(int row, int col) {
+        return row < 3 ? entries[4 * row + col] : col == 3 ? 1 : 0;
     }
 
     public static SimpleMatrix affineMatrix(LinearTransformation3 linearTransformation, Translation3 translation){
-        return new SimpleMatrix(new double[][]{
-                {linearTransformation.getMatrix().get(0,0),
-                        linearTransformation.getMatrix().get(0,1),
-                        linearTransformation.getMatrix().get(0,2),
-                        translation.getMatrix().get(0,0)},
-                {linearTransformation.getMatrix().get(1,0),
-                        linearTransformation.getMatrix().get(1,1),
-                        linearTransformation.getMatrix().get(1,2),
-                        translation.getMatrix().get(1,0)},
-                {linearTransformation.getMatrix().get(2,0),
-                        linearTransformation.getMatrix().get(2,1),
-                        linearTransformation.getMatrix().get(2,2),
-                        translation.getMatrix().get(2,0)},
-                {0,0,0,1}
-        });
+        return new AffineTransformation3(linearTransformation, translation).getMatrix();
     }
 
     public static SimpleMatrix affineMatrix(LinearTransformation3 linearTransformation){
-        return new SimpleMatrix(new double[][]{
-                {linearTransformation.getMatrix().get(0,0),
-                        linearTransformation.getMatrix().get(0,1),
-                        linearTransformation.getMatrix().get(0,2),
-                        0},
-                {linearTransformation.getMatrix().get(1,0),
-                        linearTransformation.getMatrix().get(1,1),
-                        linearTransformation.getMatrix().get(1,2),
-                        0},
-                {linearTransformation.getMatrix().get(2,0),
-                        linearTransformation.getMatrix().get(2,1),
-                        linearTransformation.getMatrix().get(2,2),
-                        0},
-                {0,0,0,1}
-        });
+        return new AffineTransformation3(linearTransformation).getMatrix();
     }
 
     public static SimpleMatrix affineMatrix(Translation3 translation){
-        return new SimpleMatrix(new double[][]{
-                {1, 0, 0, translation.getMatrix().get(0,0)},
-                {0, 1, 0, translation.getMatrix().get(1,0)},
-                {0, 0, 1, translation.getMatrix().get(2,0)},
-                {0,0,0,1}
-        });
+        return new AffineTransformation3(translation).getMatrix();
     }
 
     public LinearTransformation3 linearTransformation() {
         return new LinearTransformation3(
                 new SimpleMatrix(new double[][] {
-                        {matrix.get(0,0), matrix.get(0,1), matrix.get(0,2)},
-                        {matrix.get(1,0), matrix.get(1,1), matrix.get(1,2)},
-                        {matrix.get(2,0), matrix.get(2,1), matrix.get(2,2)}
+                        {entries[0], entries[1], entries[2]},
+                        {entries[4], entries[5], entries[6]},
+                        {entries[8], entries[9], entries[10]}
                 }));
     }
 
     public Translation3 translation() {
-        return new Translation3(
-                new SimpleMatrix(new double[][] {
-                        {matrix.get(0,matrix.numCols()-1)},
-                        {matrix.get(1,matrix.numCols()-1)},
-                        {matrix.get(2,matrix.numCols()-1)}
-                }));
+        return new Translation3(entries[3], entries[7], entries[11]);
+    }
+
+    /**
+     * <p>Transform points packed as x, y, z triples.</p>
+     * @param xyzIn The coordinates of the points.
+     * @param xyzOut Where to put the transformed coordinates, which may be xyzIn itself.
+     */
+    public void apply(double[] xyzIn, double[] xyzOut) {
+        if (xyzOut != xyzIn) {
+            System.arraycopy(xyzIn, 0, xyzOut, 0, xyzIn.length - xyzIn.length % 3);
+        }
+        transformInPlace(xyzOut, 0, xyzIn.length / 3);
+    }
+
+    /**
+     * <p>Transform points packed as x, y, z triples, overwriting their coordinates.</p>
+     * @param offset The index in xyz of the x coordinate of the first point.
+     * @param count The number of points.
+     */
+    public void transformInPlace(double[] xyz, int offset, int count) {
+        Objects.checkFromIndexSize(offset, 3 * count, xyz.length);
+        // entries in locals, so the loop body is plain arithmetic the JIT can keep in registers
+        double m00 = entries[0], m01 = entries[1], m02 = entries[2], m03 = entries[3];
+        double m10 = entries[4], m11 = entries[5], m12 = entries[6], m13 = entries[7];
+        double m20 = entries[8], m21 = entries[9], m22 = entries[10], m23 = entries[11];
+        for (int i = offset, end = offset + 3 * count; i < end; i += 3) {
+            double x = xyz[i];
+            double y = xyz[i + 1];
+            double z = xyz[i + 2];
+            xyz[i] = m00 * x + m01 * y + m02 * z + m03;
+            xyz[i + 1] = m10 * x + m11 * y + m12 * z + m13;
+            xyz[i + 2] = m20 * x + m21 * y + m22 * z + m23;
+        }
+    }
+
+    /**
+     * <p>Transform vectors packed as x, y, z triples, which are moved by the linear part only.</p>
+     * @param xyzIn The coordinates of the vectors.
+     * @param xyzOut Where to put the transformed coordinates, which may be xyzIn itself.
+     */
+    public void applyLinear(double[] xyzIn, double[] xyzOut) {
+        for (var i = 0; i + 2 < xyzIn.length; i += 3) {
+            double x = xyzIn[i];
+            double y = xyzIn[i + 1];
+            double z = xyzIn[i + 2];
+            xyzOut[i] = entries[0] * x + entries[1] * y + entries[2] * z;
+            xyzOut[i + 1] = entries[4] * x + entries[5] * y + entries[6] * z;
+            xyzOut[i + 2] = entries[8] * x + entries[9] * y + entries[10] * z;
+        }
     }
 
     public boolean identical(AffineTransformation3 a) {
-        for (var row = 0; row < 4; row++) {
-            for (var col = 0; col < 4; col++) {
-                if (!Maths.equal(a.matrix.get(row,col),matrix.get(row,col))) {
-                    return false;
-                }
+        for (var i = 0; i < 12; i++) {
+            if (!Maths.equal(a.entries[i], entries[i])) {
+                return false;
             }
         }
         return true;
@@ -107,7 +171,7 @@ public class AffineTransformation3 {
 
     public AffineTransformation3 inverse() throws TransformationNotInvertible {
         try {
-            return new AffineTransformation3(matrix.invert());
+            return new AffineTransformation3(getMatrix().invert());
         } catch (SingularMatrixException e) {
             throw new TransformationNotInvertible();
         }
@@ -115,6 +179,15 @@ public class AffineTransformation3 {
 
     // compose transformation to form 'this' followed by 'a'
     public AffineTransformation3 compose(AffineTransformation3 a) {
-        return new AffineTransformation3(a.getMatrix().mult(getMatrix()));
+        double[] p = a.entries;
+        double[] q = entries;
+        var product = new double[12];
+        for (var row = 0; row < 3; row++) {
+            for (var col = 0; col < 4; col++) {
+                product[4 * row + col] = p[4 * row] * q[col] + p[4 * row + 1] * q[4 + col] + p[4 * row + 2] * q[8 + col]
+                        + (col == 3 ? p[4 * row + 3] : 0);
+            }
+        }
+        return new AffineTransformation3(product);
     }
 }
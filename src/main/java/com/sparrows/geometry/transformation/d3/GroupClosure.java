@@ -0,0 +1,188 @@
+package com.sparrows.geometry.transformation.d3;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import com.sparrows.geometry.maths.Maths;
+import com.sparrows.geometry.transformation.Identity3;
+import com.sparrows.geometry.utils.LongIntHashMap;
+
+import org.ejml.simple.SimpleMatrix;
+
+/**
+ * <p>Generates a finite group of transformations from a list of generators.</p>
+ * <p>The group is found by a breadth first search: each element found is composed with each generator,
+ * and the product is added if it is new. Elements are held as arrays of matrix entries and compared entry by
+ * entry within the error margin, so each product costs O(1) rather than a scan of the group found so far.</p>
+ * <p>Elements are hashed as {@link com.sparrows.geometry.utils.VertexIndex} hashes points, by the cell of the
+ * image of a fixed point in general position. The elements of a finite group fix a common point, so distinct
+ * elements move it to distinct places, and elements within the margin of each other move it to within
+ * {@code REACH} of each other, so an element is always found by looking in the (at most eight) cells within
+ * that reach of its own image.</p>
+ * <p>The identity comes first, then the generators in the order given without duplicates, then the other
+ * elements. The identity and the generators are returned as given; the other elements are new
+ * transformations.</p>
+ */
+public final class GroupClosure {
+    /**
+     * The largest group that will be generated, so that generators of an infinite group fail quickly.
+     */
+    public static final int MAX_ORDER = 1 << 20;
+
+    // the point whose image is hashed, and how far apart the images of identical elements can be
+    private static final double[] POINT = {0.5773, 0.3141, 0.8164};
+    private static final double REACH = (POINT[0] + POINT[1] + POINT[2] + 1) * Maths.ERROR_MARGIN;
+    private static final double CELL_SIZE = 1e-4;
+
+    private final int columns;
+    private final List<double[]> elements = new ArrayList<>();
+    private final LongIntHashMap buckets = new LongIntHashMap();
+    private int[] nextInBucket = new int[16];
+
+    private GroupClosure(int columns) {
+        this.columns = columns;
+    }
+
+    /**
+     * @return The group of linear transformations generated by the given ones.
+     */
+    public static List<LinearTransformation3> closure(List<? extends LinearTransformation3> generators) {
+        List<LinearTransformation3> given = new ArrayList<>();
+        given.add(new Identity3());
+        given.addAll(generators);
+        return new GroupClosure(3).close(given, LinearTransformation3::getMatrix, LinearTransformation3::new);
+    }
+
+    /**
+     * @return The group of affine transformations generated by the given ones, which must all fix some point.
+     */
+    public static List<AffineTransformation3> affineClosure(List<? extends AffineTransformation3> generators) {
+        List<AffineTransformation3> given = new ArrayList<>();
+        given.add(new AffineTransformation3(new Identity3()));
+        given.addAll(generators);
+        return new GroupClosure(4).close(given, AffineTransformation3::getMatrix, AffineTransformation3::new);
+    }
+
+    private <T> List<T> close(List<T> given, Function<T, SimpleMatrix> toMatrix, Function<SimpleMatrix, T> fromMatrix) {
+        List<T> group = new ArrayList<>();
+        List<double[]> generators = new ArrayList<>();
+        for (var i = 0; i < given.size(); i++) {
+            var entries = entries(toMatrix.apply(given.get(i)));
+            if (add(entries)) {
+                group.add(given.get(i));
+                if (i > 0) {
+                    generators.add(entries);
+                }
+            }
+        }
+
+        for (var i = 0; i < elements.size(); i++) {
+            for (var generator : generators) {
+                var product = multiply(generator, elements.get(i));
+                if (add(product)) {
+                    if (elements.size() > MAX_ORDER) {
+                        throw new IllegalArgumentException("Generators do not generate a finite group.");
+                    }
+                    group.add(fromMatrix.apply(matrix(product)));
+                }
+            }
+        }
+        return group;
+    }
+
+    // add an element if it isn't already in the group
+    private boolean add(double[] element) {
+        var image = image(element);
+        long xTo = cell(image[0] + REACH);
+        long yTo = cell(image[1] + REACH);
+        long zTo = cell(image[2] + REACH);
+        for (long i = cell(image[0] - REACH); i <= xTo; i++) {
+            for (long j = cell(image[1] - REACH); j <= yTo; j++) {
+                for (long k = cell(image[2] - REACH); k <= zTo; k++) {
+                    int e = buckets.get(key(i, j, k), -1);
+                    while (e >= 0) {
+                        if (equal(element, elements.get(e))) {
+                            return false;
+                        }
+                        e = nextInBucket[e];
+                    }
+                }
+            }
+        }
+        var e = elements.size();
+        elements.add(element);
+        if (e == nextInBucket.length) {
+            nextInBucket = Arrays.copyOf(nextInBucket, 2 * e);
+        }
+        nextInBucket[e] = buckets.put(key(cell(image[0]), cell(image[1]), cell(image[2])), e, -1);
+        return true;
+    }
+
+    private double[] image(double[] element) {
+        var image = new double[3];
+        for (var row = 0; row < 3; row++) {
+            double sum = columns == 4 ? element[columns * row + 3] : 0;
+            for (var k = 0; k < 3; k++) {
+                sum += element[columns * row + k] * POINT[k];
+            }
+            image[row] = sum;
+        }
+        return image;
+    }
+
+    private static long cell(double d) {
+        return (long) Math.floor(d / CELL_SIZE);
+    }
+
+    // distinct cells may share a key; they then share a chain, which only costs extra comparisons
+    private static long key(long i, long j, long k) {
+        return (i * 0x9E3779B97F4A7C15L + j) * 0xC2B2AE3D27D4EB4FL + k;
+    }
+
+    private static boolean equal(double[] a, double[] b) {
+        for (var i = 0; i < a.length; i++) {
+            if (!Maths.equal(a[i], b[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // the first three rows, as the last row of an affine matrix is always the same
+    private double[] entries(SimpleMatrix m) {
+        var entries = new double[3 * columns];
+        for (var row = 0; row < 3; row++) {
+            for (var col = 0; col < columns; col++) {
+                entries[columns * row + col] = m.get(row, col);
+            }
+        }
+        return entries;
+    }
+
+    private SimpleMatrix matrix(double[] entries) {
+        var m = new double[columns][columns];
+        for (var row = 0; row < columns; row++) {
+            for (var col = 0; col < columns; col++) {
+                m[row][col] = row < 3 ? entries[columns * row + col] : row == col ? 1 : 0;
+            }
+        }
+        return new SimpleMatrix(m);
+    }
+
+    // the matrix product a b, i.e. b followed by a
+    private double[] multiply(double[] a, double[] b) {
+        var product = new double[3 * columns];
+        for (var row = 0; row < 3; row++) {
+            for (var col = 0; col < columns; col++) {
+                double sum = col == 3 ? a[columns * row + 3] : 0;
+                for (var k = 0; k < 3; k++) {
+                    sum += a[columns * row + k] * b[columns * k + col];
+                }
+                product[columns * row + col] = sum;
+            }
+        }
+        return product;
+    }
+}
@@ -7,6 +7,8 @@ import com.sparrows.geometry.transformation.Basis3;
 import org.ejml.data.SingularMatrixException;
 import org.ejml.simple.SimpleMatrix;
 
+import java.util.Objects;
+
 public class LinearTransformation3 {
     protected final SimpleMatrix matrix;
 
@@ -54,6 +56,26 @@ public class LinearTransformation3 {
         }
     }
 
+    /**
+     * <p>Transform points or vectors packed as x, y, z triples, overwriting their coordinates.</p>
+     * @param offset The index in xyz of the x coordinate of the first point.
+     * @param count The number of points.
+     */
+    public void transformInPlace(double[] xyz, int offset, int count) {
+        Objects.checkFromIndexSize(offset, 3 * count, xyz.length);
+        double m00 = matrix.get(0, 0), m01 = matrix.get(0, 1), m02 = matrix.get(0, 2);
+        double m10 = matrix.get(1, 0), m11 = matrix.get(1, 1), m12 = matrix.get(1, 2);
+        double m20 = matrix.get(2, 0), m21 = matrix.get(2, 1), m22 = matrix.get(2, 2);
+        for (int i = offset, end = offset + 3 * count; i < end; i += 3) {
+            double x = xyz[i];
+            double y = xyz[i + 1];
+            double z = xyz[i + 2];
+            xyz[i] = m00 * x + m01 * y + m02 * z;
+            xyz[i + 1] = m10 * x + m11 * y + m12 * z;
+            xyz[i + 2] = m20 * x + m21 * y + m22 * z;
+        }
+    }
+
     // compose transformation to form 'this' followed by 'a'
     public LinearTransformation3 compose(LinearTransformation3 t) {
         return new LinearTransformation3(t.getMatrix().mult(getMatrix()));
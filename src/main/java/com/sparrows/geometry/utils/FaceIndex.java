@@ -0,0 +1,124 @@
+package com.sparrows.geometry.utils;
+
+import java.util.Arrays;
+
+/**
+ * <p>A hash index of faces given as cycles of vertex indices.</p>
+ * <p>Each face is stored in a canonical form which is the same for every cyclic shift of its
+ * vertices and for its reverse, so two faces have the same canonical form exactly when one is
+ * identical or opposite to the other. Faces can then be matched with a hash lookup instead of a
+ * pairwise comparison of polygons.</p>
+ */
+public class FaceIndex {
+    private final LongIntHashMap buckets;
+    private int[] vertices;
+    private int[] start;
+    private int[] nextInBucket;
+    private int size = 0;
+
+    // Constructors
+    public FaceIndex(int expectedFaces) {
+        expectedFaces = Math.max(expectedFaces, 1);
+        buckets = new LongIntHashMap(expectedFaces);
+        vertices = new int[4 * expectedFaces];
+        start = new int[expectedFaces + 1];
+        nextInBucket = new int[expectedFaces];
+    }
+
+    // Getters
+    public int size() {
+        return size;
+    }
+    public int faceDegree(int f) {
+        return start[f + 1] - start[f];
+    }
+    /**
+     * @return The i'th vertex of the canonical form of face f.
+     */
+    public int canonicalVertex(int f, int i) {
+        return vertices[start[f] + i];
+    }
+
+    /**
+     * <p>Add a face.</p>
+     * @return The number of the new face.
+     */
+    public int add(int[] face, int offset, int length) {
+        if (size == nextInBucket.length) {
+            start = Arrays.copyOf(start, 2 * size + 1);
+            nextInBucket = Arrays.copyOf(nextInBucket, 2 * size);
+        }
+        if (start[size] + length > vertices.length) {
+            vertices = Arrays.copyOf(vertices, Math.max(2 * vertices.length, start[size] + length));
+        }
+        canonicalise(face, offset, length, vertices, start[size]);
+        int f = size++;
+        start[size] = start[f] + length;
+        nextInBucket[f] = buckets.put(hash(vertices, start[f], length), f, -1);
+        return f;
+    }
+
+    /**
+     * <p>Find a face with the given canonical form.</p>
+     * @param canonical A face already in canonical form, as produced by {@link #canonicalise}.
+     * @param used If not null, faces marked true are skipped.
+     * @return The number of a matching face, or -1 if there isn't one.
+     */
+    public int find(int[] canonical, int length, boolean[] used) {
+        int f = buckets.get(hash(canonical, 0, length), -1);
+        while (f >= 0) {
+            if ((used == null || !used[f]) && faceDegree(f) == length
+                    && Arrays.equals(vertices, start[f], start[f + 1], canonical, 0, length)) {
+                return f;
+            }
+            f = nextInBucket[f];
+        }
+        return -1;
+    }
+
+    /**
+     * <p>Write the canonical form of a face: the lexicographically least of the sequences read
+     * forwards or backwards from each of its vertices.</p>
+     */
+    public static void canonicalise(int[] face, int offset, int length, int[] canonical, int canonicalOffset) {
+        var min = Integer.MAX_VALUE;
+        for (var i = 0; i < length; i++) {
+            min = Math.min(min, face[offset + i]);
+        }
+        int bestStart = -1;
+        int bestStep = 0;
+        for (var i = 0; i < length; i++) {
+            if (face[offset + i] == min) {
+                for (var step = -1; step <= 1; step += 2) {
+                    if (bestStart < 0 || compare(face, offset, length, i, step, bestStart, bestStep) < 0) {
+                        bestStart = i;
+                        bestStep = step;
+                    }
+                }
+            }
+        }
+        for (var i = 0; i < length; i++) {
+            canonical[canonicalOffset + i] = face[offset + Math.floorMod(bestStart + i * bestStep, length)];
+        }
+    }
+
+    private static int compare(int[] face, int offset, int length, int start1, int step1, int start2, int step2) {
+        for (var i = 0; i < length; i++) {
+            int v1 = face[offset + Math.floorMod(start1 + i * step1, length)];
+            int v2 = face[offset + Math.floorMod(start2 + i * step2, length)];
+            if (v1 != v2) {
+                return Integer.compare(v1, v2);
+            }
+        }
+        return 0;
+    }
+
+    private static long hash(int[] face, int offset, int length) {
+        long h = length;
+        for (var i = offset; i < offset + length; i++) {
+            h = (h + face[i]) * 0x9E3779B97F4A7C15L;
+            h ^= h >>> 29;
+        }
+        return h;
+    }
+}
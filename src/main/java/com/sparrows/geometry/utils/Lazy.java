@@ -0,0 +1,47 @@
+package com.sparrows.geometry.utils;
+
+import java.util.function.Supplier;
+
+/**
+ * <p>A value computed at most once, on first use, and then safely published to every thread.</p>
+ * <p>The value is held in a volatile field and computed under double-checked locking, so once it is
+ * set reading it costs a single volatile read. The value should be immutable, or never modified after
+ * it has been computed, so that threads sharing it need no further locking.</p>
+ */
+public final class Lazy<T> {
+    private final Supplier<T> supplier;
+    private volatile T value;
+
+    // Constructors
+    public Lazy() {
+        this(null);
+    }
+    public Lazy(Supplier<T> supplier) {
+        this.supplier = supplier;
+    }
+
+    // Getters
+    public T get() {
+        return get(supplier);
+    }
+    /**
+     * <p>Get the value, computing it with the given supplier if it hasn't been computed yet.</p>
+     * <p>The supplier must not return null, and must not wait on another thread which needs this value.</p>
+     */
+    public T get(Supplier<T> supplier) {
+        T result = value;
+        if (result == null) {
+            synchronized (this) {
+                result = value;
+                if (result == null) {
+                    result = supplier.get();
+                    if (result == null) {
+                        throw new IllegalStateException("Lazy value computed as null.");
+                    }
+                    value = result;
+                }
+            }
+        }
+        return result;
+    }
+}
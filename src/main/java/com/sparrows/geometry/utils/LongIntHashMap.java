@@ -0,0 +1,127 @@
+package com.sparrows.geometry.utils;
+
+import java.util.Arrays;
+
+/**
+ * <p>An open-addressing hash map from primitive long keys to primitive int values.</p>
+ * <p>Used for the vertex and edge indices so that no keys or values are boxed.</p>
+ */
+public class LongIntHashMap {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] keys;
+    private int[] values;
+    private boolean[] used;
+    private int size = 0;
+
+    // Constructors
+    public LongIntHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+    public LongIntHashMap(int expectedSize) {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        keys = new long[capacity];
+        values = new int[capacity];
+        used = new boolean[capacity];
+    }
+
+    // Getters
+    public int size() {
+        return size;
+    }
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    public boolean containsKey(long key) {
+        return used[slot(key)];
+    }
+    public int get(long key, int missing) {
+        int s = slot(key);
+        return used[s] ? values[s] : missing;
+    }
+
+    // Setters
+    /**
+     * <p>Associate a value with a key.</p>
+     * @return The previous value for the key, or missing if there wasn't one.
+     */
+    public int put(long key, int value, int missing) {
+        int s = slot(key);
+        if (used[s]) {
+            int previous = values[s];
+            values[s] = value;
+            return previous;
+        }
+        keys[s] = key;
+        values[s] = value;
+        used[s] = true;
+        if (++size * 2 > keys.length) {
+            grow();
+        }
+        return missing;
+    }
+    public void put(long key, int value) {
+        put(key, value, 0);
+    }
+    /**
+     * <p>Associate a value with a key only if the key is not already present.</p>
+     * @return The existing value for the key, or missing if the value was added.
+     */
+    public int putIfAbsent(long key, int value, int missing) {
+        int s = slot(key);
+        if (used[s]) {
+            return values[s];
+        }
+        keys[s] = key;
+        values[s] = value;
+        used[s] = true;
+        if (++size * 2 > keys.length) {
+            grow();
+        }
+        return missing;
+    }
+    public void clear() {
+        Arrays.fill(used, false);
+        size = 0;
+    }
+
+    private int slot(long key) {
+        int mask = keys.length - 1;
+        int s = mix(key) & mask;
+        while (used[s] && keys[s] != key) {
+            s = (s + 1) & mask;
+        }
+        return s;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        boolean[] oldUsed = used;
+        keys = new long[oldKeys.length * 2];
+        values = new int[oldKeys.length * 2];
+        used = new boolean[oldKeys.length * 2];
+        for (var i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) {
+                int s = slot(oldKeys[i]);
+                keys[s] = oldKeys[i];
+                values[s] = oldValues[i];
+                used[s] = true;
+            }
+        }
+    }
+
+    // the finalisation step of MurmurHash3, so that nearby keys are spread over the table
+    private static int mix(long key) {
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return (int)h;
+    }
+}
@@ -0,0 +1,120 @@
+package com.sparrows.geometry.utils;
+
+import java.util.Arrays;
+
+import com.sparrows.geometry.maths.Maths;
+
+/**
+ * <p>A spatial hash of points used to weld vertices that are identical within the error margin.</p>
+ * <p>Space is divided into cubic cells whose side is a small multiple of the error margin, so any
+ * point identical to a given point lies in one of the (at most eight, usually one or two) cells
+ * overlapping the cube of side twice the error margin around it. Points in those cells are then
+ * compared coordinate by coordinate exactly as {@code Point3.identical} does, so lookups keep the
+ * usual tolerance semantics while costing O(1) rather than a scan of every known vertex.</p>
+ * <p>Indices are assigned in the order points are added, and a lookup returns the lowest index of
+ * any identical point, which is the one a linear scan would have found first.</p>
+ */
+public class VertexIndex {
+    private final double margin;
+    private final double cellSize;
+    private final LongIntHashMap cellHeads;
+    private double[] coordinates;
+    private int[] nextInCell;
+    private int size = 0;
+
+    // Constructors
+    public VertexIndex() {
+        this(16);
+    }
+    public VertexIndex(int expectedSize) {
+        margin = Maths.ERROR_MARGIN;
+        cellSize = 4 * margin;
+        expectedSize = Math.max(expectedSize, 1);
+        cellHeads = new LongIntHashMap(expectedSize);
+        coordinates = new double[3 * expectedSize];
+        nextInCell = new int[expectedSize];
+    }
+
+    // Getters
+    public int size() {
+        return size;
+    }
+    public double getX(int i) {
+        return coordinates[3 * i];
+    }
+    public double getY(int i) {
+        return coordinates[3 * i + 1];
+    }
+    public double getZ(int i) {
+        return coordinates[3 * i + 2];
+    }
+    /**
+     * @return A copy of the coordinates of the indexed points, packed as x, y, z triples.
+     */
+    public double[] coordinates() {
+        return Arrays.copyOf(coordinates, 3 * size);
+    }
+
+    /**
+     * <p>Find a point identical to the given coordinates.</p>
+     * @return The lowest index of an identical point, or -1 if there isn't one.
+     */
+    public int find(double x, double y, double z) {
+        long xTo = cell(x + margin);
+        long yTo = cell(y + margin);
+        long zTo = cell(z + margin);
+        int found = -1;
+        for (long i = cell(x - margin); i <= xTo; i++) {
+            for (long j = cell(y - margin); j <= yTo; j++) {
+                for (long k = cell(z - margin); k <= zTo; k++) {
+                    int v = cellHeads.get(key(i, j, k), -1);
+                    while (v >= 0) {
+                        if ((found < 0 || v < found)
+                                && Maths.equal(x, coordinates[3 * v])
+                                && Maths.equal(y, coordinates[3 * v + 1])
+                                && Maths.equal(z, coordinates[3 * v + 2])) {
+                            found = v;
+                        }
+                        v = nextInCell[v];
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * <p>Add a point without checking whether an identical point is already indexed.</p>
+     * @return The index of the new point.
+     */
+    public int add(double x, double y, double z) {
+        if (size == nextInCell.length) {
+            coordinates = Arrays.copyOf(coordinates, 6 * size);
+            nextInCell = Arrays.copyOf(nextInCell, 2 * size);
+        }
+        int v = size++;
+        coordinates[3 * v] = x;
+        coordinates[3 * v + 1] = y;
+        coordinates[3 * v + 2] = z;
+        nextInCell[v] = cellHeads.put(key(cell(x), cell(y), cell(z)), v, -1);
+        return v;
+    }
+
+    /**
+     * <p>Find a point identical to the given coordinates, adding it if there isn't one.</p>
+     * @return The index of the identical or new point.
+     */
+    public int findOrAdd(double x, double y, double z) {
+        int v = find(x, y, z);
+        return v >= 0 ? v : add(x, y, z);
+    }
+
+    private long cell(double d) {
+        return (long)Math.floor(d / cellSize);
+    }
+
+    // distinct cells may share a key; they then share a chain, which only costs extra comparisons
+    private static long key(long i, long j, long k) {
+        return (i * 0x9E3779B97F4A7C15L + j) * 0xC2B2AE3D27D4EB4FL + k;
+    }
+}
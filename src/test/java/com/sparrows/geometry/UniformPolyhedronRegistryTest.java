@@ -0,0 +1,85 @@
+package com.sparrows.geometry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.sparrows.geometry.exception.DoesNotTileSphere;
+import com.sparrows.geometry.exception.GeometryException;
+import com.sparrows.geometry.maths.Rational;
+import com.sparrows.geometry.maths.exceptions.InvalidRational;
+import com.sparrows.geometry.maths.exceptions.ZeroDenominator;
+import com.sparrows.geometry.spherical.SchwarzTriangle;
+import com.sparrows.geometry.spherical.SphericalPolyhedron;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class UniformPolyhedronRegistryTest {
+
+    @Test
+    void TestCanonical() throws GeometryException, ZeroDenominator, InvalidRational {
+        Assertions.assertEquals(new WythoffSymbol("3|2 4"), new WythoffSymbol("3|4 2").canonical());
+        Assertions.assertEquals(new WythoffSymbol("2 3|5"), new WythoffSymbol("3 2|5").canonical());
+        Assertions.assertEquals(new WythoffSymbol("2 3 5|"), new WythoffSymbol("5 2 3|").canonical());
+        Assertions.assertEquals(new WythoffSymbol("|2 3 4"), new WythoffSymbol("|4 2 3").canonical());
+        // odd permutations of a snub are its mirror image
+        Assertions.assertNotEquals(new WythoffSymbol("|2 3 4"), new WythoffSymbol("|3 2 4").canonical());
+        Assertions.assertNotEquals(new WythoffSymbol("3|2 4"), new WythoffSymbol("2|3 4").canonical());
+    }
+
+    @Test
+    void TestCache() throws GeometryException, ZeroDenominator, InvalidRational {
+        var registry = new UniformPolyhedronRegistry(2);
+        SphericalPolyhedron cube = registry.get(new WythoffSymbol("3|2 4"));
+        Assertions.assertEquals(6, cube.faceCount());
+        Assertions.assertSame(cube, registry.get(new WythoffSymbol("3|4 2")));
+        Assertions.assertEquals(1, registry.missCount());
+        Assertions.assertEquals(1, registry.hitCount());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> cube.getFaces().remove(0));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> cube.getFace(0).getVertices().remove(0));
+
+        registry.get(new WythoffSymbol("4|2 3"));
+        registry.get(new WythoffSymbol("3|2 3"));
+        Assertions.assertEquals(2, registry.size());
+        Assertions.assertEquals(1, registry.evictionCount());
+        Assertions.assertNotSame(cube, registry.get(new WythoffSymbol("3|2 4")));
+        Assertions.assertEquals(4, registry.missCount());
+    }
+
+    @Test
+    void TestDoesNotTileSphere() throws GeometryException, ZeroDenominator {
+        var registry = new UniformPolyhedronRegistry(2);
+        var symbol = new WythoffSymbol(new SchwarzTriangle(new Rational(4, 3), new Rational(3), new Rational(3)),
+                WythoffSymbol.Type.ONE);
+        Assertions.assertThrows(DoesNotTileSphere.class, () -> registry.get(symbol));
+        // the failure isn't kept
+        Assertions.assertEquals(0, registry.size());
+    }
+
+    @Test
+    void TestShared() throws Exception {
+        var registry = new UniformPolyhedronRegistry(8);
+        var symbol = new WythoffSymbol("3|2 5");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<SphericalPolyhedron>> tasks = new ArrayList<>();
+            for (var i = 0; i < 32; i++) {
+                tasks.add(() -> registry.get(symbol));
+            }
+            List<Future<SphericalPolyhedron>> results = executor.invokeAll(tasks);
+            SphericalPolyhedron first = results.get(0).get();
+            for (var result : results) {
+                Assertions.assertSame(first, result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        Assertions.assertEquals(1, registry.missCount());
+        Assertions.assertEquals(31, registry.hitCount());
+        Assertions.assertSame(UniformPolyhedronRegistry.shared(), UniformPolyhedronRegistry.shared());
+    }
+}
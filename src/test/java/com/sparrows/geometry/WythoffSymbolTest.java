@@ -234,6 +234,15 @@ class WythoffSymbolTest {
         Assertions.assertEquals(30,w.vertexCount());
     }
 
+    @Test
+    void testDoesNotTileSphere() throws InvalidSchwarzTriangle, ZeroDenominator {
+        var triangle = new SchwarzTriangle(new Rational(4, 3), new Rational(3), new Rational(3));
+        Assertions.assertFalse(triangle.tilesSphere());
+        WythoffSymbol w = new WythoffSymbol(triangle, WythoffSymbol.Type.ONE);
+        Assertions.assertThrows(DoesNotTileSphere.class, w::uniformPolyhedron);
+        Assertions.assertThrows(DoesNotTileSphere.class, () -> new WythoffSymbol("4/3|3 3"));
+    }
+
     @Test
     void testConstructorStringTypeOne() throws InvalidRational, ZeroDenominator, InvalidWythoffSymbol, InvalidSchwarzTriangle, DoesNotTileSphere {
         WythoffSymbol w = new WythoffSymbol("|2 3 4");
@@ -343,7 +352,7 @@ class WythoffSymbolTest {
         geoImage.drawPolygon(poly);*/
 
         geoImage.setColour(Color.YELLOW);
-        Polyhedron h = StandardPolyhedra.GREAT_ICOSAHEDRON.
+        Polyhedron h = StandardPolyhedra.greatIcosahedron().
                 rotateOrigin(Vector3.X_UNIT,1).
                 rotateOrigin(Vector3.Y_UNIT,1).
                 rotateOrigin(Vector3.Z_UNIT,1);
@@ -376,33 +385,33 @@ class WythoffSymbolTest {
         SphericalPolyhedron sp = w.uniformPolyhedron();
         Polyhedron h = new Polyhedron(sp);
         h.writeObjFile("c:\\users\\tmhoo\\Documents\\test");
-        h = StandardPolyhedra.ICOSAHEDRON;
+        h = StandardPolyhedra.icosahedron();
         h.writeObjFile("c:\\users\\tmhoo\\Documents\\icosahedron");
-        h = StandardPolyhedra.DODECAHEDRON;
+        h = StandardPolyhedra.dodecahedron();
         h.writeObjFile("c:\\users\\tmhoo\\Documents\\dodecahedron");
-        h = StandardPolyhedra.OCTAHEDRON;
+        h = StandardPolyhedra.octahedron();
         h.writeObjFile("c:\\users\\tmhoo\\Documents\\octahedron");
-        h = StandardPolyhedra.TETRAHEDRON;
+        h = StandardPolyhedra.tetrahedron();
         h.writeObjFile("c:\\users\\tmhoo\\Documents\\tetrahedron");
-        h = StandardPolyhedra.CUBE;
+        h = StandardPolyhedra.cube();
         h.writeObjFile("c:\\users\\tmhoo\\Documents\\cube");
     }
 
     @Test
     void stuff4() throws IOException {
-        Polyhedron h = StandardPolyhedra.TETRAHEDRON;
+        Polyhedron h = StandardPolyhedra.tetrahedron();
         h.writeFaceObjFiles("c:\\users\\tmhoo\\Documents\\face");
     }
 
     @Test
     void stuff5() throws IOException {
-        Polyhedron h = StandardPolyhedra.CUBE;
+        Polyhedron h = StandardPolyhedra.cube();
         h.writeFacePrismObjFiles("c:\\users\\tmhoo\\Documents\\cubetest");
     }
 
     @Test
     void stuff6() throws IOException {
-        Polyhedron h = StandardPolyhedra.CUBE;
+        Polyhedron h = StandardPolyhedra.cube();
         h.writeObjFileIndependentFaces("c:\\users\\tmhoo\\Documents\\cubetest");
     }
 
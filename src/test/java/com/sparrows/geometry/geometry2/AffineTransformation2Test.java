@@ -56,4 +56,16 @@ class AffineTransformation2Test {
         AffineTransformation2 a = new AffineTransformation2(new Stretch2(2,0), new Translation2(1,2));
         Assertions.assertThrows(TransformationNotInvertible.class, a::inverse);
     }
+
+    @Test
+    void TestTransformInPlace() {
+        AffineTransformation2 t = new AffineTransformation2(new Stretch2(2,3), new Translation2(4,5));
+        double[] xy = {1,1, 0,0};
+        t.transformInPlace(xy, 0, 2);
+        Assertions.assertArrayEquals(new double[] {6,8, 4,5}, xy);
+        t.linearTransformation().transformInPlace(xy, 2, 1);
+        Assertions.assertArrayEquals(new double[] {6,8, 8,15}, xy);
+        new Translation2(-1,-1).transformInPlace(xy, 0, 1);
+        Assertions.assertArrayEquals(new double[] {5,7, 8,15}, xy);
+    }
 }
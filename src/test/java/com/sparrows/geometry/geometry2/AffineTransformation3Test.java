@@ -0,0 +1,69 @@
+package com.sparrows.geometry.geometry2;
+
+import com.sparrows.geometry.geometry3.Line3;
+import com.sparrows.geometry.geometry3.Point3;
+import com.sparrows.geometry.geometry3.Vector3;
+import com.sparrows.geometry.transformation.Rotation3;
+import com.sparrows.geometry.transformation.Stretch3;
+import com.sparrows.geometry.transformation.Translation3;
+import com.sparrows.geometry.transformation.d3.AffineTransformation3;
+import org.ejml.simple.SimpleMatrix;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import static com.sparrows.geometry.utils.TestUtils.checkMatrix;
+
+class AffineTransformation3Test {
+
+    @Test
+    void TestConstructor() {
+        AffineTransformation3 t = new AffineTransformation3(new Stretch3(2,3,4), new Translation3(1,2,3));
+        checkMatrix(new double[][]{
+                        {2,0,0,1},
+                        {0,3,0,2},
+                        {0,0,4,3},
+                        {0,0,0,1}},
+                t.getMatrix());
+        Assertions.assertEquals(4,t.get(2,2));
+        Assertions.assertEquals(1,t.get(3,3));
+    }
+
+    @Test
+    void TestConstructorCopies() {
+        SimpleMatrix m = new AffineTransformation3(new Translation3(1,2,3)).getMatrix().copy();
+        AffineTransformation3 t = new AffineTransformation3(m);
+        m.set(0, 3, 9);
+        Assertions.assertEquals(1, t.get(0,3));
+        Assertions.assertEquals(1, t.getMatrix().get(0,3));
+        Assertions.assertNotSame(m, t.getMatrix());
+    }
+
+    @Test
+    void TestApply() {
+        AffineTransformation3 t = new AffineTransformation3(new Stretch3(2,3,4), new Translation3(1,2,3));
+        double[] xyz = {1,1,1, 0,0,0};
+        t.apply(xyz, xyz);
+        Assertions.assertArrayEquals(new double[] {3,5,7, 1,2,3}, xyz);
+        double[] vectors = {1,1,1};
+        t.applyLinear(vectors, vectors);
+        Assertions.assertArrayEquals(new double[] {2,3,4}, vectors);
+    }
+
+    @Test
+    void TestCompose() {
+        var rotation = new Rotation3(new Line3(new Point3(1,0,0), Vector3.Z_UNIT), Math.PI / 2);
+        var translation = new AffineTransformation3(new Translation3(0,0,5));
+        AffineTransformation3 t = rotation.compose(translation);
+        Assertions.assertTrue(t.identical(new AffineTransformation3(translation.getMatrix().mult(rotation.getMatrix()))));
+        Assertions.assertTrue(new Point3(1,-1,5).identical(new Point3(0,0,0).affineTransform(t)));
+    }
+
+    @Test
+    void TestTransformInPlace() {
+        AffineTransformation3 t = new AffineTransformation3(new Stretch3(2,3,4), new Translation3(1,2,3));
+        double[] xyz = {9, 1,1,1, 0,0,0, 9};
+        t.transformInPlace(xyz, 1, 2);
+        Assertions.assertArrayEquals(new double[] {9, 3,5,7, 1,2,3, 9}, xyz);
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> t.transformInPlace(xyz, 3, 2));
+    }
+}
@@ -0,0 +1,35 @@
+package com.sparrows.geometry.geometry2;
+
+import java.util.List;
+
+import com.sparrows.geometry.exception.GeometryException;
+import com.sparrows.geometry.geometry3.Vector3;
+import com.sparrows.geometry.transformation.RotationOrigin3;
+import com.sparrows.geometry.transformation.d3.GroupClosure;
+import com.sparrows.geometry.transformation.d3.LinearTransformation3;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class GroupClosureTest {
+
+    @Test
+    void TestNearlyEqualGenerators() throws GeometryException {
+        // a quarter turn whose first entry is just under 0.00005, and a copy just over it, well within the margin
+        var x = Math.sqrt(0.00005 - 5e-8);
+        var axis = new Vector3(x, Math.sqrt(1 - x * x) * 0.6, Math.sqrt(1 - x * x) * 0.8);
+        var quarter = new RotationOrigin3(axis, Math.PI / 2);
+        var nudged = quarter.getMatrix().copy();
+        nudged.set(0, 0, nudged.get(0, 0) + 1e-7);
+        List<LinearTransformation3> group = GroupClosure.closure(List.of(quarter, new LinearTransformation3(nudged)));
+        Assertions.assertEquals(4, group.size());
+    }
+
+    @Test
+    void TestOrders() throws GeometryException {
+        var a = new RotationOrigin3(Vector3.Z_UNIT, Math.PI / 2);
+        var b = new RotationOrigin3(new Vector3(1, 1, 1), 2 * Math.PI / 3);
+        Assertions.assertEquals(24, GroupClosure.closure(List.of(a, b)).size());
+        var c = new RotationOrigin3(new Vector3(1, 2, 3), 2 * Math.PI / 7);
+        Assertions.assertEquals(7, GroupClosure.closure(List.of(c)).size());
+    }
+}
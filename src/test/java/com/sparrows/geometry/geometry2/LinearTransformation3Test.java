@@ -6,6 +6,7 @@ import com.sparrows.geometry.geometry3.Vector3;
 import com.sparrows.geometry.transformation.Basis3;
 import com.sparrows.geometry.transformation.d3.LinearTransformation3;
 import com.sparrows.geometry.transformation.Stretch3;
+import com.sparrows.geometry.transformation.Translation3;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -67,4 +68,13 @@ class LinearTransformation3Test {
                 });
     }
 
+    @Test
+    void TestTransformInPlace() {
+        LinearTransformation3 t = new Stretch3(2,3,4);
+        double[] xyz = {1,1,1, 1,2,3};
+        t.transformInPlace(xyz, 3, 1);
+        Assertions.assertArrayEquals(new double[] {1,1,1, 2,6,12}, xyz);
+        new Translation3(1,1,1).transformInPlace(xyz, 0, 2);
+        Assertions.assertArrayEquals(new double[] {2,2,2, 3,7,13}, xyz);
+    }
 }
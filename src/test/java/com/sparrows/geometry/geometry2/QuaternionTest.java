@@ -0,0 +1,94 @@
+package com.sparrows.geometry.geometry2;
+
+import com.sparrows.geometry.exception.GeometryException;
+import com.sparrows.geometry.geometry3.Vector3;
+import com.sparrows.geometry.spherical.SphericalPoint;
+import com.sparrows.geometry.transformation.Quaternion;
+import com.sparrows.geometry.transformation.RotationOrigin3;
+import com.sparrows.geometry.transformation.SphericalRotation;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import static com.sparrows.geometry.utils.TestUtils.checkMatrix;
+
+class QuaternionTest {
+
+    @Test
+    void TestMatrix() throws GeometryException {
+        var axis = new Vector3(1,2,-2);
+        for (var angle : new double[] {0, 0.5, Math.PI / 2, Math.PI, 4}) {
+            var q = Quaternion.fromAxisAngle(axis, angle);
+            var m = new RotationOrigin3(axis, angle).getMatrix();
+            checkMatrix(new double[][]{
+                            {m.get(0,0), m.get(0,1), m.get(0,2)},
+                            {m.get(1,0), m.get(1,1), m.get(1,2)},
+                            {m.get(2,0), m.get(2,1), m.get(2,2)}},
+                    q.matrix());
+            Assertions.assertTrue(q.identical(Quaternion.fromMatrix(m)));
+            Assertions.assertTrue(q.identical(Quaternion.fromLinearTransformation(q.linearTransformation())));
+        }
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Quaternion.fromMatrix(new RotationOrigin3(axis, 1).getMatrix().scale(-1)));
+    }
+
+    @Test
+    void TestRotate() throws GeometryException {
+        var q = Quaternion.fromAxisAngle(Vector3.Z_UNIT, Math.PI / 2);
+        Assertions.assertTrue(q.rotate(Vector3.X_UNIT).identical(Vector3.Y_UNIT));
+        Assertions.assertEquals(Math.PI / 2, q.angle(), 1e-12);
+        Assertions.assertTrue(q.axis().identical(Vector3.Z_UNIT));
+
+        var centre = new SphericalPoint(new Vector3(1,1,1).unit());
+        var p = new SphericalPoint(1,0,0);
+        var s = Quaternion.fromAxisAngle(centre, 2 * Math.PI / 3);
+        Assertions.assertTrue(s.rotate(p).identical(new SphericalPoint(0,1,0)));
+        Assertions.assertTrue(p.sphericalTransform(new SphericalRotation(centre, 1)).identical(
+                p.sphericalTransform(Quaternion.fromAxisAngle(centre, 1).sphericalTransformation())));
+        Assertions.assertTrue(s.identical(Quaternion.fromSphericalTransformation(new SphericalRotation(centre, 2 * Math.PI / 3))));
+
+        double[] xyz = {9, 1,0,0, 0,1,0};
+        q.transformInPlace(xyz, 1, 2);
+        Assertions.assertArrayEquals(new double[] {9, 0,1,0, -1,0,0}, xyz, 1e-12);
+    }
+
+    @Test
+    void TestCompose() {
+        var a = Quaternion.fromAxisAngle(Vector3.X_UNIT, Math.PI / 2);
+        var b = Quaternion.fromAxisAngle(Vector3.Z_UNIT, Math.PI / 2);
+        // x-axis rotation then z-axis rotation takes y to z, and z to x
+        var c = a.compose(b);
+        Assertions.assertTrue(c.rotate(Vector3.Y_UNIT).identical(Vector3.Z_UNIT));
+        Assertions.assertTrue(c.rotate(Vector3.Z_UNIT).identical(Vector3.X_UNIT));
+        Assertions.assertTrue(c.compose(c.inverse()).identical(Quaternion.IDENTITY));
+        Assertions.assertTrue(a.identical(a.negate()));
+
+        // a few milliradians apart is a different rotation, and moves vectors visibly
+        var axis = new Vector3(1,2,3);
+        var near = Quaternion.fromAxisAngle(axis, 0.0025);
+        Assertions.assertFalse(Quaternion.IDENTITY.identical(near));
+        Assertions.assertFalse(near.identical(Quaternion.IDENTITY.negate()));
+        Assertions.assertFalse(near.rotate(Vector3.X_UNIT).identical(Vector3.X_UNIT));
+        Assertions.assertTrue(near.identical(Quaternion.fromAxisAngle(axis, 0.0025 + 1e-9)));
+
+        // many small steps stay a rotation
+        var step = Quaternion.fromAxisAngle(new Vector3(1,2,3), 2 * Math.PI / 1000);
+        var total = Quaternion.IDENTITY;
+        for (var i = 0; i < 1000; i++) {
+            total = total.compose(step).normalise();
+        }
+        Assertions.assertTrue(total.identical(Quaternion.IDENTITY));
+        Assertions.assertEquals(1, total.norm(), 1e-12);
+    }
+
+    @Test
+    void TestSlerp() {
+        var a = Quaternion.IDENTITY;
+        var b = Quaternion.fromAxisAngle(Vector3.Z_UNIT, 2);
+        Assertions.assertTrue(a.slerp(b, 0).identical(a));
+        Assertions.assertTrue(a.slerp(b, 1).identical(b));
+        Assertions.assertTrue(a.slerp(b, 0.25).identical(Quaternion.fromAxisAngle(Vector3.Z_UNIT, 0.5)));
+        // the shorter way round
+        Assertions.assertTrue(a.slerp(b.negate(), 0.5).identical(Quaternion.fromAxisAngle(Vector3.Z_UNIT, 1)));
+        Assertions.assertTrue(a.slerp(a, 0.5).identical(a));
+    }
+}
@@ -0,0 +1,47 @@
+package com.sparrows.geometry.geometry2;
+
+import com.sparrows.geometry.exception.GeometryException;
+import com.sparrows.geometry.geometry3.Line3;
+import com.sparrows.geometry.geometry3.Point3;
+import com.sparrows.geometry.geometry3.Vector3;
+import com.sparrows.geometry.transformation.Rotation3;
+import com.sparrows.geometry.transformation.RotationOrigin3;
+import com.sparrows.geometry.transformation.Translation3;
+import com.sparrows.geometry.transformation.d3.AffineTransformation3;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class Rotation3Test {
+
+    @Test
+    void TestMatchesComposition() throws GeometryException {
+        var axis = new Line3(new Point3(1,2,3), new Vector3(1,-2,0.5));
+        for (var angle : new double[] {0, 0.3, Math.PI / 2, 2, Math.PI, -1.2}) {
+            var composed = new AffineTransformation3(new Translation3(new Vector3(axis.getPoint()).negate()))
+                    .compose(new AffineTransformation3(new RotationOrigin3(axis.getVector(), angle)))
+                    .compose(new AffineTransformation3(new Translation3(new Vector3(axis.getPoint()))));
+            Assertions.assertTrue(composed.identical(new Rotation3(axis, angle)));
+        }
+    }
+
+    @Test
+    void TestFixesAxis() {
+        var axis = new Line3(new Point3(1,1,0), new Point3(2,3,4));
+        var t = new Rotation3(axis, 1);
+        Assertions.assertTrue(new Point3(2,3,4).affineTransform(t).identical(new Point3(2,3,4)));
+        Assertions.assertTrue(new Point3(1,0,0).rotate(Line3.zAxis, Math.PI / 2).identical(new Point3(0,1,0)));
+    }
+
+    @Test
+    void TestCyclic() {
+        var axis = new Line3(new Point3(0,0,1), new Vector3(1,1,1));
+        var t = new Rotation3(axis, 2 * Math.PI / 5);
+        Assertions.assertEquals(2 * Math.PI / 5, t.getAngle(), 1e-12);
+        AffineTransformation3 power = t;
+        for (var i = 1; i < 5; i++) {
+            power = power.compose(t);
+        }
+        Assertions.assertTrue(power.identical(new Rotation3(axis, 0)));
+        Assertions.assertFalse(power.compose(t).identical(new Rotation3(axis, 0)));
+    }
+}
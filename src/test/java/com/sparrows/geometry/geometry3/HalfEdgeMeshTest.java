@@ -0,0 +1,72 @@
+package com.sparrows.geometry.geometry3;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class HalfEdgeMeshTest {
+    @Test
+    void TestCube() {
+        Polyhedron h = StandardPolyhedra.cube();
+        HalfEdgeMesh mesh = h.halfEdgeMesh();
+        Assertions.assertEquals(8,mesh.vertexCount());
+        Assertions.assertEquals(6,mesh.faceCount());
+        Assertions.assertEquals(12,mesh.edgeCount());
+        Assertions.assertEquals(24,mesh.halfEdgeCount());
+        Assertions.assertTrue(mesh.oriented());
+        for (var v = 0; v < mesh.vertexCount(); v++) {
+            Assertions.assertEquals(3,mesh.vertexDegree(v));
+            Assertions.assertEquals(h.vertexFaces().get(v).get(0),mesh.vertexFace(v,0));
+            Assertions.assertTrue(h.vertices().get(v).identical(mesh.getVertex(v)));
+        }
+        for (var e = 0; e < mesh.edgeCount(); e++) {
+            Assertions.assertEquals(2,mesh.edgeFaceCount(e));
+            Assertions.assertEquals(h.edgeVertices().get(e).get(0),mesh.edgeVertex1(e));
+            Assertions.assertEquals(h.edgeVertices().get(e).get(1),mesh.edgeVertex2(e));
+        }
+        for (var he = 0; he < mesh.halfEdgeCount(); he++) {
+            int twin = mesh.twin(he);
+            Assertions.assertEquals(he,mesh.twin(twin));
+            Assertions.assertEquals(mesh.origin(he),mesh.target(twin));
+            Assertions.assertEquals(mesh.edge(he),mesh.edge(twin));
+            Assertions.assertEquals(he,mesh.previous(mesh.next(he)));
+            Assertions.assertEquals(mesh.face(he),mesh.face(mesh.next(he)));
+        }
+    }
+
+    @Test
+    void TestNotOriented() {
+        Polyhedron h = new Polyhedron(
+                new Polygon3(new Point3(0,0,0),new Point3(1,0,0),new Point3(0,1,0)),
+                new Polygon3(new Point3(1,0,0),new Point3(0,0,0),new Point3(1,1,1)),
+                new Polygon3(new Point3(0,1,0),new Point3(1,0,0),new Point3(1,1,1)),
+                new Polygon3(new Point3(0,0,0),new Point3(0,1,0),new Point3(1,1,1)).reverse()
+        );
+        HalfEdgeMesh mesh = h.halfEdgeMesh();
+        Assertions.assertFalse(mesh.oriented());
+        Assertions.assertEquals(h.oriented(),mesh.oriented());
+    }
+
+    @Test
+    void TestIndexedData() {
+        double[] coordinates = {0,0,0, 1,0,0, 0,1,0, 0,0,1};
+        int[] faceStart = {0,3,6,9,12};
+        int[] faceVertices = {0,2,1, 0,1,3, 1,2,3, 2,0,3};
+        HalfEdgeMesh mesh = new HalfEdgeMesh(coordinates, faceStart, faceVertices);
+        Assertions.assertEquals(6,mesh.edgeCount());
+        Assertions.assertTrue(mesh.oriented());
+        Assertions.assertEquals(3,mesh.faceVertex(1,2));
+        Assertions.assertEquals(1,mesh.side(mesh.faceHalfEdge(2)+1));
+
+        Polyhedron h = new Polyhedron(mesh);
+        h.validate();
+        Assertions.assertEquals(4,h.vertexCount());
+        Assertions.assertSame(h.getFace(0).getVertex(0),h.getFace(1).getVertex(0));
+        Assertions.assertTrue(h.identical(new HalfEdgeMesh(h).toPolyhedron()));
+    }
+
+    @Test
+    void TestInvalidIndex() {
+        Assertions.assertThrows(IllegalArgumentException.class, () ->
+                new HalfEdgeMesh(new double[] {0,0,0, 1,0,0, 0,1,0}, new int[] {0,3}, new int[] {0,1,3}));
+    }
+}
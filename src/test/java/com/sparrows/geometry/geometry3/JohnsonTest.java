@@ -0,0 +1,47 @@
+package com.sparrows.geometry.geometry3;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class JohnsonTest {
+
+    @Test
+    void TestCatalogueMatchesData() {
+        for (var i = 1; i <= JohnsonCatalogue.COUNT; i++) {
+            Polyhedron h = JohnsonCatalogue.get(i);
+            Assertions.assertNotNull(h, "J" + i);
+            Polyhedron built = Johnson.build(i);
+            Assertions.assertEquals(built.faceCount(), h.faceCount(), "J" + i);
+            Assertions.assertEquals(built.vertexCount(), h.vertexCount(), "J" + i);
+            Assertions.assertTrue(h.identical(built), "J" + i);
+            h.validate();
+        }
+    }
+
+    @Test
+    void TestNewCopies() {
+        Polyhedron a = Johnson.Johnson(1);
+        Polyhedron b = Johnson.Johnson(1);
+        Assertions.assertNotSame(a, b);
+        Assertions.assertTrue(a.identical(b));
+        Assertions.assertEquals(5, a.faceCount());
+        Assertions.assertEquals(5, a.vertexCount());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Johnson.Johnson(93));
+    }
+
+    @Test
+    void TestWrite() throws IOException {
+        var out = new ByteArrayOutputStream();
+        JohnsonCatalogue.write(out);
+        var bytes = out.toByteArray();
+        Assertions.assertEquals('J', bytes[0]);
+        Assertions.assertEquals('N', bytes[3]);
+        Assertions.assertNotNull(JohnsonCatalogue.check(bytes));
+        // written from other data
+        bytes[15] ^= 1;
+        Assertions.assertNull(JohnsonCatalogue.check(bytes));
+    }
+}
@@ -14,6 +14,8 @@ import com.sparrows.geometry.maths.exceptions.ZeroDenominator;
 import com.sparrows.geometry.spherical.SphericalPolyhedron;
 import com.sparrows.geometry.transformation.Translation3;
 
+import org.ejml.simple.SimpleMatrix;
+
 class PointSymmetryGroup3Test {
 
     List<String> validGroups = Arrays.asList(
@@ -68,7 +70,7 @@ class PointSymmetryGroup3Test {
 
     @Test
     void TestPolyhedronC5() throws GeometryException {
-        Polyhedron h = StandardPolyhedra.frustum(Polygon3.pentagon, Polygon3.pentagon.translate(Vector3.Z_UNIT).scaleOrigin(0.5).rotate(Line3.zAxis,Math.PI/20));
+        Polyhedron h = StandardPolyhedra.frustum(Polygon3.pentagon(), Polygon3.pentagon().translate(Vector3.Z_UNIT).scaleOrigin(0.5).rotate(Line3.zAxis,Math.PI/20));
         PointSymmetryGroup3 g = new PointSymmetryGroup3(h);
         Assertions.assertEquals("C5",g.toString());
     }
@@ -97,8 +99,8 @@ class PointSymmetryGroup3Test {
 
     @Test
     void TestPolyhedronC5h() throws GeometryException {
-        Polyhedron h = StandardPolyhedra.frustum(Polygon3.pentagon, Polygon3.pentagon.translate(Vector3.Z_UNIT).scaleOrigin(0.5).rotate(Line3.zAxis,Math.PI/20));
-        Polyhedron h2 = h.reflect(Polygon3.pentagon.plane());
+        Polyhedron h = StandardPolyhedra.frustum(Polygon3.pentagon(), Polygon3.pentagon().translate(Vector3.Z_UNIT).scaleOrigin(0.5).rotate(Line3.zAxis,Math.PI/20));
+        Polyhedron h2 = h.reflect(Polygon3.pentagon().plane());
         Polyhedron compound = new Polyhedron(h,h2);
         PointSymmetryGroup3 g = new PointSymmetryGroup3(compound);
         Assertions.assertEquals("C5h",g.toString());
@@ -123,7 +125,7 @@ class PointSymmetryGroup3Test {
 
     @Test
     void TestPolyhedronC5v() throws GeometryException {
-        Polyhedron h = StandardPolyhedra.pyramid(Polygon3.pentagon,new Point3(0,0,1));
+        Polyhedron h = StandardPolyhedra.pyramid(Polygon3.pentagon(),new Point3(0,0,1));
         PointSymmetryGroup3 g = new PointSymmetryGroup3(h);
         Assertions.assertEquals("C5v",g.toString());
     }
@@ -214,7 +216,7 @@ class PointSymmetryGroup3Test {
 
     @Test
     void TestPolyhedronS10() throws GeometryException {
-        Polyhedron h = StandardPolyhedra.frustum(Polygon3.pentagon, Polygon3.pentagon.translate(Vector3.Z_UNIT).scaleOrigin(0.5).rotate(Line3.zAxis,Math.PI/30));
+        Polyhedron h = StandardPolyhedra.frustum(Polygon3.pentagon(), Polygon3.pentagon().translate(Vector3.Z_UNIT).scaleOrigin(0.5).rotate(Line3.zAxis,Math.PI/30));
         Polyhedron h2 = h.reflect(Plane3.Z_EQUALS_0).rotate(Line3.zAxis,Math.PI/5);
         Polyhedron compound = new Polyhedron(h,h2);
         PointSymmetryGroup3 g = new PointSymmetryGroup3(compound);
@@ -232,7 +234,7 @@ class PointSymmetryGroup3Test {
 
     @Test
     void TestPolyhedronT() throws GeometryException {
-        Polyhedron h = StandardPolyhedra.TETRAHEDRON;
+        Polyhedron h = StandardPolyhedra.tetrahedron();
         h = StandardPolyhedra.snub(h,2,Math.PI/20);
         h.validate();
         PointSymmetryGroup3 g = new PointSymmetryGroup3(h);
@@ -241,7 +243,7 @@ class PointSymmetryGroup3Test {
 
     @Test
     void TestPolyhedronTd() throws GeometryException {
-        Polyhedron h = StandardPolyhedra.TETRAHEDRON;
+        Polyhedron h = StandardPolyhedra.tetrahedron();
         PointSymmetryGroup3 g = new PointSymmetryGroup3(h);
         Assertions.assertEquals("Td",g.toString());
     }
@@ -263,7 +265,7 @@ class PointSymmetryGroup3Test {
 
     @Test
     void TestPolyhedronOh() throws GeometryException {
-        Polyhedron h = StandardPolyhedra.OCTAHEDRON;
+        Polyhedron h = StandardPolyhedra.octahedron();
         PointSymmetryGroup3 g = new PointSymmetryGroup3(h);
         Assertions.assertEquals("Oh",g.toString());
     }
@@ -278,9 +280,22 @@ class PointSymmetryGroup3Test {
 
     @Test
     void TestPolyhedronIh() throws GeometryException {
-        Polyhedron h = StandardPolyhedra.ICOSAHEDRON;
+        Polyhedron h = StandardPolyhedra.icosahedron();
         PointSymmetryGroup3 g = new PointSymmetryGroup3(h);
         Assertions.assertEquals("Ih",g.toString());
     }
 
-}
\ No newline at end of file
+    @Test
+    void TestElements() throws NotAPointSymmetry {
+        List<String> groups = Arrays.asList("T","Td","Th","O","Oh","I","Ih","C1","C5","C7v","C8h","D6","D5d","D9h","S8","Ci","Cs");
+        List<Integer> orders = Arrays.asList(12,24,24,24,48,60,120,1,5,14,16,12,20,36,8,2,2);
+        for (var i = 0; i < groups.size(); i++) {
+            var elements = new PointSymmetryGroup3(groups.get(i)).elements();
+            Assertions.assertEquals(orders.get(i),elements.size(),groups.get(i));
+            for (var element : elements) {
+                // orthogonal
+                Assertions.assertTrue(element.getMatrix().mult(element.getMatrix().transpose()).isIdentical(SimpleMatrix.identity(3),1e-9));
+            }
+        }
+    }
+}
@@ -5,11 +5,20 @@ import com.sparrows.geometry.exception.InvalidEdgeException;
 import com.sparrows.geometry.exception.InvalidVertexException;
 import com.sparrows.geometry.exception.NotEnoughFaces;
 import com.sparrows.geometry.exception.NotEnoughVertices;
+import com.sparrows.geometry.maths.Maths;
+import com.sparrows.geometry.transformation.Inversion3;
+import com.sparrows.geometry.transformation.Reflection3;
+import com.sparrows.geometry.transformation.Rotation3;
+import com.sparrows.geometry.transformation.Translation3;
+import com.sparrows.geometry.transformation.d3.AffineTransformation3;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 class PolyhedronTest {
     @Test
@@ -108,13 +117,79 @@ class PolyhedronTest {
         Assertions.assertFalse(h.oriented());
     }
 
+    @Test
+    void TestVerticesWithinErrorMargin() {
+        double e = 0.0000004;
+        List<Polygon3> faces = Arrays.asList(
+                new Polygon3(new Point3(0,0,0),new Point3(1,0,0),new Point3(0,1,0)),
+                new Polygon3(new Point3(1+e,0,0),new Point3(0,-e,0),new Point3(1,1,1)),
+                new Polygon3(new Point3(0,1,e),new Point3(1,0,-e),new Point3(1,1,1+e)),
+                new Polygon3(new Point3(e,e,e),new Point3(0,1,0),new Point3(1,1,1)),
+                new Polygon3(new Point3(0,0,0.00001),new Point3(1,0,0),new Point3(0,1,0))
+        );
+        Polyhedron h = new Polyhedron(faces);
+        Assertions.assertEquals(5,h.vertexCount());
+        Assertions.assertEquals(Arrays.asList(0,1,2),h.faceVertices().get(0));
+        Assertions.assertEquals(Arrays.asList(1,0,3),h.faceVertices().get(1));
+        Assertions.assertEquals(Arrays.asList(2,1,3),h.faceVertices().get(2));
+        Assertions.assertEquals(Arrays.asList(0,2,3),h.faceVertices().get(3));
+        Assertions.assertEquals(Arrays.asList(4,1,2),h.faceVertices().get(4));
+        Assertions.assertEquals(Arrays.asList(0,1,3),h.vertexFaces().get(0));
+        Assertions.assertEquals(Arrays.asList(0,1,0),h.vertexVertices().get(0));
+        Assertions.assertSame(faces.get(0).getVertex(0),h.vertices().get(0));
+    }
+
+    @Test
+    void TestEdges() {
+        List<Polygon3> faces = Arrays.asList(
+                new Polygon3(new Point3(0,0,0),new Point3(1,0,0),new Point3(0,1,0)),
+                new Polygon3(new Point3(1,0,0),new Point3(0,0,0),new Point3(1,1,1)),
+                new Polygon3(new Point3(0,1,0),new Point3(1,0,0),new Point3(1,1,1)),
+                new Polygon3(new Point3(0,0,0),new Point3(0,1,0),new Point3(1,1,1))
+        );
+        Polyhedron h = new Polyhedron(faces);
+        Assertions.assertEquals(6,h.edgeCount());
+        Assertions.assertEquals(Arrays.asList(0,1),h.edgeVertices().get(0));
+        Assertions.assertEquals(Arrays.asList(0,1),h.edgeFaces().get(0));
+        Assertions.assertEquals(Arrays.asList(0,0),h.edgeSides().get(0));
+        Assertions.assertEquals(Arrays.asList(2,0),h.edgeVertices().get(2));
+        Assertions.assertEquals(Arrays.asList(0,3),h.edgeFaces().get(2));
+        Assertions.assertEquals(Arrays.asList(2,0),h.edgeSides().get(2));
+        Assertions.assertTrue(h.edges().get(2).identical(new LineSegment3(new Point3(0,1,0),new Point3(0,0,0))));
+        for (var edgeFaces : h.edgeFaces()) {
+            Assertions.assertEquals(2,edgeFaces.size());
+        }
+    }
+
     @Test
     void TestIdenticalOK() throws NotEnoughFaces {
-        Polyhedron h1 = StandardPolyhedra.CUBE;
+        Polyhedron h1 = StandardPolyhedra.cube();
         Polyhedron h2 = new Polyhedron(h1);
         Assertions.assertTrue(h1.identical(h2));
     }
 
+    @Test
+    void TestIdenticalShiftedReversedFaces() {
+        double e = 0.0000004;
+        Polyhedron h1 = new Polyhedron(
+                new Polygon3(new Point3(0,0,0),new Point3(1,0,0),new Point3(0,1,0)),
+                new Polygon3(new Point3(1,0,0),new Point3(0,0,0),new Point3(1,1,1)),
+                new Polygon3(new Point3(0,1,0),new Point3(1,0,0),new Point3(1,1,1)),
+                new Polygon3(new Point3(0,0,0),new Point3(0,1,0),new Point3(1,1,1))
+        );
+        Polyhedron h2 = new Polyhedron(
+                new Polygon3(new Point3(1,1,1),new Point3(0,0,0),new Point3(0,1,0)),
+                new Polygon3(new Point3(0,1,0),new Point3(0,0,0),new Point3(1+e,0,0)),
+                new Polygon3(new Point3(1,0,0),new Point3(0,1,0),new Point3(1,1,1-e)),
+                new Polygon3(new Point3(0,0,0),new Point3(1,1,1),new Point3(1,0,0))
+        );
+        Assertions.assertTrue(h1.identical(h2));
+        Assertions.assertTrue(h2.identical(h1));
+        Polyhedron h3 = new Polyhedron(h1.getFace(0),h1.getFace(1),h1.getFace(2),h1.getFace(2));
+        Assertions.assertFalse(h1.identical(h3));
+        Assertions.assertFalse(h3.identical(h1));
+    }
+
     @Test
     void TestValidateShuffledFaces() throws GeometryException {
         List<Polygon3> faces = Arrays.asList(
@@ -153,9 +228,22 @@ class PolyhedronTest {
         Assertions.assertFalse(h1.identical(h2));
     }
 
+    @Test
+    void TestIsSymmetry() throws GeometryException {
+        Polyhedron h = StandardPolyhedra.cube();
+        Assertions.assertTrue(h.isSymmetry(new Reflection3(Plane3.X_EQUALS_0)));
+        Assertions.assertTrue(h.isSymmetry(new Rotation3(Line3.zAxis, Maths.PI2)));
+        Assertions.assertFalse(h.isSymmetry(new Rotation3(Line3.zAxis, Maths.PI4)));
+        Assertions.assertTrue(h.isSymmetry(new Inversion3(Point3.origin)));
+        Assertions.assertFalse(h.isSymmetry(new AffineTransformation3(new Translation3(Vector3.X_UNIT))));
+        Polyhedron pyramid = StandardPolyhedra.pyramid(Polygon3.square(), new Point3(0,0,1));
+        Assertions.assertTrue(pyramid.isSymmetry(new Rotation3(Line3.zAxis, Maths.PI2)));
+        Assertions.assertFalse(pyramid.isSymmetry(new Reflection3(Plane3.Z_EQUALS_0)));
+    }
+
     @Test
     void TestSymmetriesTetrahedron() {
-        Polyhedron h = StandardPolyhedra.TETRAHEDRON;
+        Polyhedron h = StandardPolyhedra.tetrahedron();
         Assertions.assertFalse(h.inversionSymmetry());
         var reflectionSymmetries = h.reflectionSymmetries();
         Assertions.assertEquals(6,reflectionSymmetries.size());
@@ -173,7 +261,7 @@ class PolyhedronTest {
 
     @Test
     void TestSymmetriesCube() {
-        Polyhedron h = StandardPolyhedra.CUBE;
+        Polyhedron h = StandardPolyhedra.cube();
         Assertions.assertTrue(h.inversionSymmetry());
         var reflectionSymmetries = h.reflectionSymmetries();
         Assertions.assertEquals(9,reflectionSymmetries.size());
@@ -191,7 +279,7 @@ class PolyhedronTest {
 
     @Test
     void TestSymmetriesOctahedron() {
-        Polyhedron h = StandardPolyhedra.OCTAHEDRON;
+        Polyhedron h = StandardPolyhedra.octahedron();
         Assertions.assertTrue(h.inversionSymmetry());
         var reflectionSymmetries = h.reflectionSymmetries();
         Assertions.assertEquals(9,reflectionSymmetries.size());
@@ -209,7 +297,7 @@ class PolyhedronTest {
 
     @Test
     void TestSymmetriesIcosahedron() {
-        Polyhedron h = StandardPolyhedra.ICOSAHEDRON;
+        Polyhedron h = StandardPolyhedra.icosahedron();
         Assertions.assertTrue(h.inversionSymmetry());
         var reflectionSymmetries = h.reflectionSymmetries();
         Assertions.assertEquals(15,reflectionSymmetries.size());
@@ -227,7 +315,7 @@ class PolyhedronTest {
 
     @Test
     void TestSymmetriesDodecahedron() {
-        Polyhedron h = StandardPolyhedra.ICOSAHEDRON;
+        Polyhedron h = StandardPolyhedra.icosahedron();
         Assertions.assertTrue(h.inversionSymmetry());
         var reflectionSymmetries = h.reflectionSymmetries();
         Assertions.assertEquals(15,reflectionSymmetries.size());
@@ -333,6 +421,58 @@ class PolyhedronTest {
         Assertions.assertEquals(84,symmetries.size());
     }
 
+    @Test
+    void TestRotationAxesLargeAntiprism() throws GeometryException {
+        Polyhedron h = StandardPolyhedra.uniformAntiprism(500);
+        var rotationalSymmetryAxes = h.rotationAxes();
+        Assertions.assertEquals(501,rotationalSymmetryAxes.size());
+        Assertions.assertEquals(500,rotationalSymmetryAxes.get(0).getOrder());
+        Assertions.assertEquals(1,h.rotoreflectionAxes().size());
+    }
+
+    @Test
+    void TestSymmetriesInPool() {
+        var pool = new ForkJoinPool(4);
+        try {
+            Polyhedron h = StandardPolyhedra.regular(5);
+            Polyhedron serial = StandardPolyhedra.regular(5);
+            var reflectionSymmetries = h.reflectionSymmetries(pool);
+            Assertions.assertEquals(15,reflectionSymmetries.size());
+            for (var i = 0; i < reflectionSymmetries.size(); i++) {
+                Assertions.assertTrue(reflectionSymmetries.get(i).getMirror().identicalOrOpposite(serial.reflectionSymmetries().get(i).getMirror()));
+            }
+            var rotationAxes = h.rotationAxes(pool);
+            Assertions.assertEquals(31,rotationAxes.size());
+            for (var i = 0; i < rotationAxes.size(); i++) {
+                Assertions.assertEquals(serial.rotationAxes().get(i).getOrder(),rotationAxes.get(i).getOrder());
+                Assertions.assertTrue(serial.rotationAxes().get(i).getAxis().identicalOrOpposite(rotationAxes.get(i).getAxis()));
+            }
+            Assertions.assertEquals(16,h.rotoreflectionAxes(pool).size());
+            Assertions.assertEquals(120,h.symmetries().size());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void TestSharedBetweenThreads() throws Exception {
+        Polyhedron h = StandardPolyhedra.regular(4);
+        var pool = new ForkJoinPool(8);
+        try {
+            var results = pool.submit(() -> IntStream.range(0, 64).parallel()
+                    .mapToObj(i -> i % 2 == 0 ? h.edges() : h.rotationAxes())
+                    .collect(Collectors.toList())).get();
+            for (var i = 0; i < results.size(); i++) {
+                Assertions.assertSame(i % 2 == 0 ? h.edges() : h.rotationAxes(), results.get(i));
+            }
+            Assertions.assertEquals(30,h.edges().size());
+            Assertions.assertEquals(31,h.rotationAxes().size());
+            Assertions.assertThrows(UnsupportedOperationException.class, () -> h.vertexFaces().get(0).add(0));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
     @Test
     void TestSymmetriesPentagonalAntiprism() throws GeometryException {
         Polyhedron h = StandardPolyhedra.uniformAntiprism(5);
@@ -8,7 +8,7 @@ import com.sparrows.geometry.exception.GeometryException;
 class StandardPolyhedronTest {
     @Test
     void TestTetrahedron() throws GeometryException {
-        Polyhedron h = StandardPolyhedra.TETRAHEDRON;
+        Polyhedron h = StandardPolyhedra.tetrahedron();
         Assertions.assertEquals(4,h.faceCount());
         h.validate();
         Assertions.assertTrue(h.oriented());
@@ -16,7 +16,7 @@ class StandardPolyhedronTest {
 
     @Test
     void TestCube() throws GeometryException {
-        Polyhedron h = StandardPolyhedra.CUBE;
+        Polyhedron h = StandardPolyhedra.cube();
         Assertions.assertEquals(6,h.faceCount());
         h.validate();
         Assertions.assertTrue(h.oriented());
@@ -24,7 +24,7 @@ class StandardPolyhedronTest {
 
     @Test
     void TestOctahedron() throws GeometryException {
-        Polyhedron h = StandardPolyhedra.OCTAHEDRON;
+        Polyhedron h = StandardPolyhedra.octahedron();
         Assertions.assertEquals(8,h.faceCount());
         h.validate();
         Assertions.assertTrue(h.oriented());
@@ -32,7 +32,7 @@ class StandardPolyhedronTest {
 
     @Test
     void TestDodecahedron() throws GeometryException {
-        Polyhedron h = StandardPolyhedra.DODECAHEDRON;
+        Polyhedron h = StandardPolyhedra.dodecahedron();
         Assertions.assertEquals(12,h.faceCount());
         h.validate();
         Assertions.assertTrue(h.oriented());
@@ -40,7 +40,7 @@ class StandardPolyhedronTest {
 
     @Test
     void TestIcosahedron() throws GeometryException {
-        Polyhedron h = StandardPolyhedra.ICOSAHEDRON;
+        Polyhedron h = StandardPolyhedra.icosahedron();
         Assertions.assertEquals(20,h.faceCount());
         h.validate();
         Assertions.assertTrue(h.oriented());
@@ -48,7 +48,7 @@ class StandardPolyhedronTest {
 
     @Test
     void TestSmallStellatedDodecahedron() throws GeometryException {
-        Polyhedron h = StandardPolyhedra.SMALL_STELLATED_DODECAHEDRON;
+        Polyhedron h = StandardPolyhedra.smallStellatedDodecahedron();
         Assertions.assertEquals(12,h.faceCount());
         h.validate();
         Assertions.assertTrue(h.oriented());
@@ -56,7 +56,7 @@ class StandardPolyhedronTest {
 
     @Test
     void TestGreatStellatedDodecahedron() throws GeometryException {
-        Polyhedron h = StandardPolyhedra.GREAT_STELLATED_DODECAHEDRON;
+        Polyhedron h = StandardPolyhedra.greatStellatedDodecahedron();
         Assertions.assertEquals(12,h.faceCount());
         h.validate();
         Assertions.assertTrue(h.oriented());
@@ -64,7 +64,7 @@ class StandardPolyhedronTest {
 
     @Test
     void TestGreatDodecahedron() throws GeometryException {
-        Polyhedron h = StandardPolyhedra.GREAT_DODECAHEDRON;
+        Polyhedron h = StandardPolyhedra.greatDodecahedron();
         Assertions.assertEquals(12,h.faceCount());
         h.validate();
         Assertions.assertTrue(h.oriented());
@@ -72,7 +72,7 @@ class StandardPolyhedronTest {
 
     @Test
     void TestGreatIcosahedron() throws GeometryException {
-        Polyhedron h = StandardPolyhedra.GREAT_ICOSAHEDRON;
+        Polyhedron h = StandardPolyhedra.greatIcosahedron();
         Assertions.assertEquals(20,h.faceCount());
         h.validate();
         Assertions.assertTrue(h.oriented());
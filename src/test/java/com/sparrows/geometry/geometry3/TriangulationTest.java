@@ -0,0 +1,65 @@
+package com.sparrows.geometry.geometry3;
+
+import com.sparrows.geometry.maths.Maths;
+import com.sparrows.geometry.transformation.Translation3;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class TriangulationTest {
+
+    private static double area(Triangulation t, int i) {
+        int a = t.triangleVertex(i, 0), b = t.triangleVertex(i, 1), c = t.triangleVertex(i, 2);
+        var u = new Vector3(t.getX(b) - t.getX(a), t.getY(b) - t.getY(a), t.getZ(b) - t.getZ(a));
+        var v = new Vector3(t.getX(c) - t.getX(a), t.getY(c) - t.getY(a), t.getZ(c) - t.getZ(a));
+        var cross = u.cross(v);
+        // signed by the face normal, so a triangle turned over counts against the area
+        var f = t.triangleFace(i);
+        return (cross.getX() * t.normalX(f) + cross.getY() * t.normalY(f) + cross.getZ() * t.normalZ(f)) / 2;
+    }
+
+    @Test
+    void TestConvex() {
+        Polyhedron cube = StandardPolyhedra.cube();
+        Triangulation t = cube.triangulation();
+        Assertions.assertSame(t, cube.triangulation());
+        Assertions.assertEquals(12, t.triangleCount());
+        Assertions.assertEquals(8, t.vertexCount());
+        Assertions.assertEquals(6, t.faceCount());
+        var total = 0.0;
+        for (var i = 0; i < t.triangleCount(); i++) {
+            Assertions.assertTrue(area(t, i) > 0);
+            total += area(t, i);
+        }
+        var edge = cube.getFace(0).getVertex(0).distance(cube.getFace(0).getVertex(1));
+        Assertions.assertEquals(6 * edge * edge, total, Maths.ERROR_MARGIN);
+    }
+
+    @Test
+    void TestStar() {
+        Triangulation t = StandardPolyhedra.smallStellatedDodecahedron().triangulation();
+        Assertions.assertEquals(60, t.triangleCount());
+        Assertions.assertEquals(24, t.vertexCount());
+        Assertions.assertEquals(12, t.meshVertexCount());
+        for (var i = 0; i < t.triangleCount(); i++) {
+            // each pentagram is fanned from its centre
+            Assertions.assertTrue(t.triangleVertex(i, 0) >= 12);
+            Assertions.assertTrue(area(t, i) > 0);
+        }
+    }
+
+    @Test
+    void TestConcave() {
+        var l = new Polygon3(new Point3(0, 0, 0), new Point3(2, 0, 0), new Point3(2, 1, 0),
+                new Point3(1, 1, 0), new Point3(1, 2, 0), new Point3(0, 2, 0));
+        Triangulation t = StandardPolyhedra.prism(l, new Translation3(0, 0, 1)).triangulation();
+        Assertions.assertEquals(12, t.vertexCount());
+        Assertions.assertEquals(2 * 4 + 6 * 2, t.triangleCount());
+        var total = 0.0;
+        for (var i = 0; i < t.triangleCount(); i++) {
+            Assertions.assertTrue(area(t, i) > 0);
+            total += area(t, i);
+        }
+        Assertions.assertEquals(2 * 3 + 8, total, Maths.ERROR_MARGIN);
+    }
+}
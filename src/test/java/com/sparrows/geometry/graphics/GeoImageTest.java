@@ -0,0 +1,117 @@
+package com.sparrows.geometry.graphics;
+
+import java.awt.Color;
+import java.awt.Point;
+import java.awt.Polygon;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.sparrows.geometry.exception.GeometryException;
+import com.sparrows.geometry.geometry3.Plane3;
+import com.sparrows.geometry.geometry3.Polygon3;
+import com.sparrows.geometry.geometry3.Polyhedron;
+import com.sparrows.geometry.geometry3.StandardPolyhedra;
+import com.sparrows.geometry.geometry3.Vector3;
+import com.sparrows.geometry.transformation.Translation3;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class GeoImageTest {
+
+    // how drawConcavePolyhedron used to find each pixel, testing every face with java.awt.Polygon
+    private static void drawPixelByPixel(GeoImage image, int pixelWidth, int pixelHeight, double left,
+                                         double bottom, double width, Polyhedron polyhedron, List<Color> colours,
+                                         boolean oriented) {
+        var height = (pixelHeight-1) * width / (pixelWidth-1);
+        List<Polygon> pixelPolygons = new ArrayList<>();
+        for (var face : polyhedron.getFaces()) {
+            var polygon = new Polygon();
+            for (var vertex : face.getVertices()) {
+                double pixelX = (vertex.getX() - left) * (pixelWidth-1) / width;
+                double pixelY = (vertex.getY() - bottom) * (pixelHeight-1) / height;
+                pixelY = pixelHeight-1-pixelY;
+                polygon.addPoint((int)pixelX,(int)pixelY);
+            }
+            pixelPolygons.add(polygon);
+        }
+        for (int pixelX = 0; pixelX < pixelWidth; pixelX++) {
+            double x = (pixelX * width) / (pixelWidth-1) + left;
+            double y = ((pixelHeight-1) * height) / (pixelHeight-1) + bottom;
+            for (int pixelY = 0; pixelY < pixelHeight; pixelY++) {
+                boolean found = false;
+                double maxZ = 0;
+                int nearestFace = 0;
+                for (int face = 0; face < pixelPolygons.size(); face++) {
+                    Plane3 plane = polyhedron.getFace(face).plane();
+                    Vector3 normal = plane.getNormal();
+                    double dot = normal.dot(Vector3.Z_UNIT);
+                    if ((!oriented || dot > 0) && normal.getZ() != 0
+                            && pixelPolygons.get(face).contains(new Point(pixelX,pixelY))) {
+                        double z = (plane.getDistanceOrigin() - normal.getX() * x - normal.getY() * y) / normal.getZ();
+                        if (!found || z > maxZ) {
+                            found = true;
+                            maxZ = z;
+                            nearestFace = face;
+                        }
+                    }
+                }
+                if (found) {
+                    double dot = polyhedron.getFace(nearestFace).plane().getNormal().dot(Vector3.Z_UNIT);
+                    image.setRGB(pixelX,pixelY,GeoImage.dimColour(colours.get(nearestFace),Math.abs(dot)).getRGB());
+                }
+                y -= height / (pixelHeight-1);
+            }
+        }
+    }
+
+    private static List<Color> colours(int count) {
+        Color[] palette = {Color.BLUE, Color.RED, Color.GREEN, Color.YELLOW, Color.ORANGE, Color.WHITE, Color.CYAN};
+        List<Color> colours = new ArrayList<>();
+        for (var i = 0; i < count; i++) {
+            colours.add(palette[i % palette.length]);
+        }
+        return colours;
+    }
+
+    private static void assertSameAsPixelByPixel(Polyhedron h, int pixelWidth, int pixelHeight, boolean oriented) {
+        var colours = colours(h.faceCount());
+        var image = new GeoImage(pixelWidth, pixelHeight, -1.8, -1.3, 3.6);
+        image.drawConcavePolyhedron(h, colours, oriented);
+        var expected = new GeoImage(pixelWidth, pixelHeight, -1.8, -1.3, 3.6);
+        drawPixelByPixel(expected, pixelWidth, pixelHeight, -1.8, -1.3, 3.6, h, colours, oriented);
+        var filled = 0;
+        for (var pixelY = 0; pixelY < pixelHeight; pixelY++) {
+            for (var pixelX = 0; pixelX < pixelWidth; pixelX++) {
+                Assertions.assertEquals(expected.getRGB(pixelX, pixelY), image.getRGB(pixelX, pixelY),
+                        "(" + pixelX + "," + pixelY + ")");
+                if ((image.getRGB(pixelX, pixelY) & 0xFFFFFF) != 0) {
+                    filled++;
+                }
+            }
+        }
+        Assertions.assertTrue(filled > 0);
+    }
+
+    @Test
+    void TestConcavePolyhedron() throws GeometryException {
+        // turned a little, so no faces are on edge
+        var axis = new Vector3(1, 2, 3);
+        for (Polyhedron h : List.of(StandardPolyhedra.cube(), StandardPolyhedra.smallStellatedDodecahedron(),
+                StandardPolyhedra.greatDodecahedron(), StandardPolyhedra.greatIcosahedron())) {
+            h = h.rotateOrigin(axis, 0.3);
+            assertSameAsPixelByPixel(h, 160, 90, false);
+            assertSameAsPixelByPixel(h, 70, 130, true);
+        }
+    }
+
+    @Test
+    void TestStarFace() {
+        // the centre of a pentagram is outside it by the even-odd rule, as it always was
+        Polyhedron star = StandardPolyhedra.prism(Polygon3.pentagram(), new Translation3(0, 0, 0.2));
+        var image = new GeoImage(121, 121, -0.6, -0.6, 1.2);
+        image.drawConcavePolyhedron(star, colours(star.faceCount()), false);
+        Assertions.assertEquals(0, image.getRGB(60, 60) & 0xFFFFFF);
+        assertSameAsPixelByPixel(star, 121, 121, false);
+    }
+}
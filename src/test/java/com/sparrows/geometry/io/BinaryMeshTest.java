@@ -0,0 +1,119 @@
+package com.sparrows.geometry.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+
+import com.sparrows.geometry.WythoffSymbol;
+import com.sparrows.geometry.exception.GeometryException;
+import com.sparrows.geometry.exception.InvalidMeshFile;
+import com.sparrows.geometry.geometry3.PointSymmetryGroup3;
+import com.sparrows.geometry.geometry3.Polyhedron;
+import com.sparrows.geometry.geometry3.StandardPolyhedra;
+import com.sparrows.geometry.maths.exceptions.InvalidRational;
+import com.sparrows.geometry.maths.exceptions.ZeroDenominator;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class BinaryMeshTest {
+
+    private static byte[] write(Polyhedron h, boolean quantise) throws IOException {
+        var out = new ByteArrayOutputStream();
+        try (var writer = new BinaryMeshWriter(out, quantise)) {
+            writer.write(h);
+        }
+        return out.toByteArray();
+    }
+
+    private static BinaryMesh read(byte[] data) throws IOException {
+        try (var reader = new BinaryMeshReader(new ByteArrayInputStream(data))) {
+            return reader.read();
+        }
+    }
+
+    @Test
+    void TestRoundTrip() throws IOException {
+        var h = StandardPolyhedra.greatStellatedDodecahedron();
+        var exact = read(write(h, false));
+        Assertions.assertFalse(exact.isSpherical());
+        Assertions.assertNull(exact.getSymmetryGroup());
+        for (var v = 0; v < h.vertexCount(); v++) {
+            Assertions.assertEquals(h.vertices().get(v).getX(), exact.getMesh().getX(v));
+        }
+        Assertions.assertTrue(exact.toPolyhedron().identical(h));
+        Assertions.assertEquals(h.faceVertices(), exact.toPolyhedron().faceVertices());
+
+        var quantised = read(write(h, true));
+        Polyhedron q = quantised.toPolyhedron();
+        Assertions.assertTrue(q.identical(h));
+        Assertions.assertEquals(h.faceVertices(), q.faceVertices());
+        q.validate();
+    }
+
+    @Test
+    void TestSpherical() throws IOException, GeometryException, InvalidRational, ZeroDenominator {
+        var s = new WythoffSymbol("2 3|5").uniformPolyhedron();
+        var out = new ByteArrayOutputStream();
+        try (var writer = new BinaryMeshWriter(out, true)) {
+            writer.write(s, new PointSymmetryGroup3("Ih"));
+            writer.write(StandardPolyhedra.cube());
+        }
+        try (var reader = new BinaryMeshReader(new ByteArrayInputStream(out.toByteArray()))) {
+            var first = reader.read();
+            Assertions.assertTrue(first.isSpherical());
+            Assertions.assertEquals("Ih", first.getSymmetryGroup().toString());
+            Assertions.assertTrue(first.toSphericalPolyhedron().identical(s));
+            var second = reader.read();
+            Assertions.assertFalse(second.isSpherical());
+            Assertions.assertTrue(second.toPolyhedron().identical(StandardPolyhedra.cube()));
+            Assertions.assertNull(reader.read());
+        }
+    }
+
+    @Test
+    void TestSize() throws IOException, GeometryException {
+        var h = StandardPolyhedra.uniformAntiprism(3001);
+        var obj = new StringWriter();
+        try (var writer = new ObjWriter(obj)) {
+            writer.write(h);
+        }
+        var objSize = obj.toString().length();
+        Assertions.assertTrue(10 * write(h, true).length < objSize);
+        Assertions.assertTrue(2 * write(h, false).length < objSize);
+    }
+
+    @Test
+    void TestCorruptHeader() {
+        // a body of one byte, compressed into 2^31 - 1 bytes that aren't there
+        byte[] huge = {'G', 'E', 'O', 'M', 1, 0, 1, (byte)0xFF, (byte)0xFF, (byte)0xFF, (byte)0xFF, 7};
+        Assertions.assertThrows(InvalidMeshFile.class, () -> read(huge));
+        // a body of 2^31 - 1 bytes, claimed to inflate from 2^21 - 1 bytes that aren't there either
+        byte[] body = {'G', 'E', 'O', 'M', 1, 0, (byte)0xFF, (byte)0xFF, (byte)0xFF, (byte)0xFF, 7,
+                (byte)0xFF, (byte)0xFF, 0x7F, 0x78, (byte)0x9C};
+        Assertions.assertThrows(InvalidMeshFile.class, () -> read(body));
+    }
+
+    @Test
+    void TestInvalid() throws IOException {
+        var data = write(StandardPolyhedra.cube(), true);
+        var bad = data.clone();
+        bad[0] = 'X';
+        Assertions.assertThrows(InvalidMeshFile.class, () -> read(bad));
+        var version = data.clone();
+        version[4] = 99;
+        Assertions.assertThrows(InvalidMeshFile.class, () -> read(version));
+        Assertions.assertThrows(IOException.class, () -> read(java.util.Arrays.copyOf(data, data.length - 3)));
+
+        var file = Files.createTempFile("mesh", ".bin");
+        try {
+            Assertions.assertThrows(IOException.class, () -> BinaryMeshReader.read(file));
+            BinaryMeshWriter.write(StandardPolyhedra.cube(), file, false);
+            Assertions.assertTrue(BinaryMeshReader.read(file).toPolyhedron().identical(StandardPolyhedra.cube()));
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.sparrows.geometry.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import com.sparrows.geometry.exception.GeometryException;
+import com.sparrows.geometry.geometry3.Polygon3;
+import com.sparrows.geometry.geometry3.Polyhedron;
+import com.sparrows.geometry.geometry3.StandardPolyhedra;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class FaceObjWriterTest {
+
+    private static String obj(Polyhedron h) throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        try (var writer = new ObjWriter(bytes)) {
+            writer.write(h);
+        }
+        return bytes.toString();
+    }
+
+    @Test
+    void TestPrism() throws IOException, GeometryException {
+        for (Polyhedron h : List.of(StandardPolyhedra.dodecahedron(), StandardPolyhedra.greatStellatedDodecahedron())) {
+            for (var face : h.getFaces()) {
+                Polygon3 face1 = face.reverse();
+                Polygon3 face2 = face1.scale(h.centroid(), FaceObjWriter.PRISM_SCALE);
+                var bytes = new ByteArrayOutputStream();
+                try (var writer = new ObjWriter(bytes)) {
+                    writer.writePrism(face1, face2);
+                    Assertions.assertEquals(2 * face.vertexCount(), writer.getVertexCount());
+                }
+                Assertions.assertEquals(obj(StandardPolyhedra.prism(face1, face2)), bytes.toString());
+            }
+        }
+    }
+
+    @Test
+    void TestZip() throws IOException, GeometryException {
+        Polyhedron h = StandardPolyhedra.smallStellatedDodecahedron();
+        var zipped = new ByteArrayOutputStream();
+        var pool = new ForkJoinPool(3);
+        try (var zip = new ZipOutputStream(zipped)) {
+            FaceObjWriter.writeFacePrisms(h, zip, "star", pool);
+        } finally {
+            pool.shutdown();
+        }
+        List<String> names = new ArrayList<>();
+        try (var zip = new ZipInputStream(new ByteArrayInputStream(zipped.toByteArray()))) {
+            for (var entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                names.add(entry.getName());
+                var content = new String(zip.readAllBytes());
+                if (names.size() == 1) {
+                    Assertions.assertEquals(obj(h), content);
+                } else {
+                    Polygon3 face1 = h.getFace(names.size() - 2).reverse();
+                    Polygon3 face2 = face1.scale(h.centroid(), FaceObjWriter.PRISM_SCALE);
+                    Assertions.assertEquals(obj(StandardPolyhedra.prism(face1, face2)), content);
+                }
+            }
+        }
+        Assertions.assertEquals(h.faceCount() + 1, names.size());
+        Assertions.assertEquals("star.obj", names.get(0));
+        Assertions.assertEquals("star1.obj", names.get(1));
+        Assertions.assertEquals("star12.obj", names.get(12));
+    }
+
+    @Test
+    void TestDirectory() throws IOException {
+        Polyhedron h = StandardPolyhedra.icosahedron();
+        var directory = Files.createTempDirectory("faces");
+        try {
+            FaceObjWriter.writeFaces(h, directory, "face");
+            for (var f = 0; f < h.faceCount(); f++) {
+                var bytes = new ByteArrayOutputStream();
+                try (var writer = new ObjWriter(bytes)) {
+                    writer.write(h.getFace(f));
+                }
+                Assertions.assertEquals(bytes.toString(), Files.readString(directory.resolve("face" + (f + 1) + ".obj")));
+            }
+        } finally {
+            try (var files = Files.list(directory)) {
+                for (var file : (Iterable<Path>) files::iterator) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(directory);
+        }
+    }
+}
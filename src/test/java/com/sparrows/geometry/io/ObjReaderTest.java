@@ -0,0 +1,96 @@
+package com.sparrows.geometry.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import com.sparrows.geometry.exception.InvalidMeshFile;
+import com.sparrows.geometry.geometry3.HalfEdgeMesh;
+import com.sparrows.geometry.geometry3.Polyhedron;
+import com.sparrows.geometry.geometry3.StandardPolyhedra;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ObjReaderTest {
+
+    private static HalfEdgeMesh read(String s) throws InvalidMeshFile {
+        return ObjReader.read(ByteBuffer.wrap(s.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    @Test
+    void TestRoundTrip() throws IOException {
+        for (var h : new Polyhedron[] {StandardPolyhedra.cube(), StandardPolyhedra.greatStellatedDodecahedron()}) {
+            var file = Files.createTempFile("obj", ".obj");
+            try {
+                ObjWriter.write(h, file);
+                var mesh = ObjReader.read(file);
+                Assertions.assertEquals(h.vertexCount(), mesh.vertexCount());
+                Assertions.assertEquals(h.faceCount(), mesh.faceCount());
+                Assertions.assertTrue(mesh.oriented());
+                Polyhedron read = mesh.toPolyhedron();
+                Assertions.assertTrue(read.identical(h));
+                // the numbers are read exactly
+                for (var v = 0; v < h.vertexCount(); v++) {
+                    Assertions.assertEquals(h.vertices().get(v).getX(), mesh.getX(v));
+                    Assertions.assertEquals(h.vertices().get(v).getY(), mesh.getY(v));
+                    Assertions.assertEquals(h.vertices().get(v).getZ(), mesh.getZ(v));
+                }
+            } finally {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    void TestSyntax() throws InvalidMeshFile {
+        var mesh = read("# a tetrahedron\n"
+                + "mtllib x.mtl\n"
+                + "o tetrahedron\n"
+                + "v 0 0 0\r\n"
+                + "v 1.5e0 -0 +0.0 1\n"
+                + "vt 0.5 0.5\n"
+                + "vn 0 0 1\n"
+                + "v 0 1 0\n"
+                + "\n"
+                + "v 0 0 .25E1 # the apex\n"
+                + "g sides\n"
+                + "f 1/1 3/1 2/1\n"
+                + "f 1//1 2//1 4//1\n"
+                + "f 2/1/1 3/1/1 4/1/1\n"
+                + "f -4 -1 -2");
+        Assertions.assertEquals(4, mesh.vertexCount());
+        Assertions.assertEquals(4, mesh.faceCount());
+        Assertions.assertEquals(1.5, mesh.getX(1));
+        Assertions.assertEquals(2.5, mesh.getZ(3));
+        Assertions.assertArrayEquals(new int[] {0, 3, 2},
+                new int[] {mesh.faceVertex(3, 0), mesh.faceVertex(3, 1), mesh.faceVertex(3, 2)});
+        Assertions.assertTrue(mesh.oriented());
+    }
+
+    @Test
+    void TestNumbers() throws InvalidMeshFile {
+        String[] numbers = {"0.1", "-0.3333333333333333", "0.5773502691896258", "0.57735026918962584",
+                "123456789012345678901234567890", "1e-300", "4.9e-324", "-1.7976931348623157E308", "1e23",
+                "0.000001", "NaN", "-Infinity"};
+        var s = new StringBuilder();
+        for (var n : numbers) {
+            s.append("v ").append(n).append(" 0 0\n");
+        }
+        s.append("f 1 2 3\n");
+        var mesh = read(s.toString());
+        for (var i = 0; i < numbers.length; i++) {
+            Assertions.assertEquals(Double.parseDouble(numbers[i]), mesh.getX(i), numbers[i]);
+        }
+    }
+
+    @Test
+    void TestInvalid() {
+        var e = Assertions.assertThrows(InvalidMeshFile.class, () -> read("v 0 0 0\nv 1 0 0\nv 0 x 0\n"));
+        Assertions.assertTrue(e.getMessage().startsWith("Line 3:"));
+        Assertions.assertThrows(InvalidMeshFile.class, () -> read("v 0 0 0\nv 1 0 0\nf 1 2\n"));
+        Assertions.assertThrows(InvalidMeshFile.class, () -> read("v 0 0 0\nv 1 0 0\nv 0 1 0\nf 1 2 4\n"));
+        Assertions.assertThrows(InvalidMeshFile.class, () -> read("v 0 0 0\nv 1 0 0\nv 0 1 0\nf 0 1 2\n"));
+    }
+}
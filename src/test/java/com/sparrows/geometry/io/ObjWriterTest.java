@@ -0,0 +1,94 @@
+package com.sparrows.geometry.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import com.sparrows.geometry.geometry3.Point3;
+import com.sparrows.geometry.geometry3.Polygon3;
+import com.sparrows.geometry.geometry3.Polyhedron;
+import com.sparrows.geometry.geometry3.StandardPolyhedra;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ObjWriterTest {
+
+    // how Polyhedron.objString() used to build the file
+    private static String objString(Polyhedron h) {
+        String s = "";
+        for (Point3 vertex : h.vertices()) {
+            s += "v " + vertex.getX() + " " + vertex.getY() + " " + vertex.getZ() + "\r\n";
+        }
+        for (Polygon3 face : h.getFaces()) {
+            s += "f";
+            for (Point3 vertex : face.getVertices()) {
+                for (int v = 0; v < h.vertices().size(); v++) {
+                    if (vertex.identical(h.vertices().get(v))) {
+                        s += " " + (v+1);
+                        break;
+                    }
+                }
+            }
+            s += "\r\n";
+        }
+        return s;
+    }
+
+    @Test
+    void TestSameAsBefore() throws IOException {
+        for (var h : new Polyhedron[] {StandardPolyhedra.cube(), StandardPolyhedra.icosahedron(),
+                StandardPolyhedra.greatStellatedDodecahedron()}) {
+            Assertions.assertEquals(objString(h), h.objString());
+            var out = new ByteArrayOutputStream();
+            try (var writer = new ObjWriter(out)) {
+                writer.write(h);
+            }
+            Assertions.assertEquals(objString(h), out.toString(StandardCharsets.US_ASCII));
+        }
+    }
+
+    @Test
+    void TestFaces() throws IOException {
+        var square = Polygon3.square();
+        Assertions.assertEquals("v " + square.getVertex(0).getX() + " " + square.getVertex(0).getY() + " "
+                + square.getVertex(0).getZ() + "\r\n", square.objString().substring(0, square.objString().indexOf("\r\n") + 2));
+        Assertions.assertTrue(square.objString().endsWith("\r\nf  1 2 3 4\r\n"));
+
+        var cube = StandardPolyhedra.cube();
+        var s = cube.objStringIndependentFaces();
+        Assertions.assertEquals(24, s.lines().filter(l -> l.startsWith("v ")).count());
+        Assertions.assertTrue(s.endsWith("\r\nf  21 22 23 24\r\n"));
+    }
+
+    @Test
+    void TestSeveralObjects() throws IOException {
+        var s = new StringWriter();
+        try (var writer = new ObjWriter(s)) {
+            writer.write(StandardPolyhedra.cube());
+            writer.write(StandardPolyhedra.tetrahedron());
+            Assertions.assertEquals(12, writer.getVertexCount());
+        }
+        var lines = s.toString().split("\r\n");
+        Assertions.assertEquals(8 + 6 + 4 + 4, lines.length);
+        // the tetrahedron's faces refer to its own vertices, after the cube's
+        for (var i = 18; i < 22; i++) {
+            for (var v : lines[i].substring(2).split(" ")) {
+                Assertions.assertTrue(Integer.parseInt(v) > 8);
+            }
+        }
+    }
+
+    @Test
+    void TestFile() throws IOException {
+        var file = Files.createTempFile("obj", ".obj");
+        try {
+            ObjWriter.write(StandardPolyhedra.octahedron(), file);
+            Assertions.assertEquals(objString(StandardPolyhedra.octahedron()), Files.readString(file));
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.sparrows.geometry.io;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import com.sparrows.geometry.exception.InvalidMeshFile;
+import com.sparrows.geometry.geometry3.HalfEdgeMesh;
+import com.sparrows.geometry.geometry3.StandardPolyhedra;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class OffReaderTest {
+    private static final String CUBE = "OFF\n"
+            + "# a cube\n"
+            + "8 6 12\n"
+            + "-0.5 -0.5 -0.5\n"
+            + "0.5 -0.5 -0.5\n"
+            + "0.5 0.5 -0.5\n"
+            + "-0.5 0.5 -0.5\n"
+            + "-0.5 -0.5 0.5\n"
+            + "0.5 -0.5 0.5\n"
+            + "0.5 0.5 0.5\n"
+            + "-0.5 0.5 0.5\n"
+            + "4 0 3 2 1\n"
+            + "4 4 5 6 7\n"
+            + "4 0 1 5 4 255 0 0\n"
+            + "4 1 2 6 5\n"
+            + "4 2 3 7 6\n"
+            + "4 3 0 4 7\n";
+
+    private static HalfEdgeMesh read(String s) throws InvalidMeshFile {
+        return OffReader.read(ByteBuffer.wrap(s.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    @Test
+    void TestCube() throws InvalidMeshFile {
+        var mesh = read(CUBE);
+        Assertions.assertEquals(8, mesh.vertexCount());
+        Assertions.assertEquals(6, mesh.faceCount());
+        Assertions.assertEquals(12, mesh.edgeCount());
+        Assertions.assertTrue(mesh.oriented());
+        Assertions.assertTrue(mesh.toPolyhedron().identical(StandardPolyhedra.cube()));
+    }
+
+    @Test
+    void TestHeaders() throws InvalidMeshFile {
+        // no keyword, and the counts on the first line
+        Assertions.assertEquals(8, read(CUBE.substring(4)).vertexCount());
+        Assertions.assertEquals(6, read("OFF 8 6 0" + CUBE.substring(CUBE.indexOf("\n-0.5"))).faceCount());
+        // vertex colours
+        var coloured = CUBE.replace("COFF", "OFF").replace("OFF\n", "COFF\n").replace(" -0.5\n", " -0.5 1 1 1 1\n");
+        Assertions.assertEquals(-0.5, read(coloured).getZ(3));
+        Assertions.assertThrows(InvalidMeshFile.class, () -> read("4OFF\n" + CUBE.substring(4)));
+    }
+
+    @Test
+    void TestInvalid() {
+        Assertions.assertThrows(InvalidMeshFile.class, () -> read(CUBE.replace("4 1 2 6 5", "4 1 2 6 8")));
+        Assertions.assertThrows(InvalidMeshFile.class, () -> read(CUBE.replace("4 1 2 6 5", "2 1 2")));
+        Assertions.assertThrows(InvalidMeshFile.class, () -> read(CUBE.substring(0, CUBE.length() - 10)));
+        // counts far beyond the data, which mustn't be allocated for up front
+        Assertions.assertThrows(InvalidMeshFile.class, () -> read("OFF 2000000000 1 0\n0 0 0\n"));
+        Assertions.assertThrows(InvalidMeshFile.class,
+                () -> read("OFF 4 2000000000 0" + CUBE.substring(CUBE.indexOf("\n-0.5"))));
+    }
+}
@@ -0,0 +1,98 @@
+package com.sparrows.geometry.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Base64;
+
+import com.sparrows.geometry.geometry3.Polyhedron;
+import com.sparrows.geometry.geometry3.StandardPolyhedra;
+import com.sparrows.geometry.geometry3.Triangulation;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class TriangleExportTest {
+
+    private interface Export {
+        void write(Triangulation t, WritableByteChannel channel) throws IOException;
+    }
+
+    private static ByteBuffer export(Triangulation t, Export export) throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        export.write(t, Channels.newChannel(bytes));
+        return ByteBuffer.wrap(bytes.toByteArray()).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @Test
+    void TestStl() throws IOException {
+        Triangulation t = StandardPolyhedra.greatDodecahedron().triangulation();
+        ByteBuffer stl = export(t, StlWriter::write);
+        Assertions.assertEquals(StlWriter.HEADER_SIZE + 4 + StlWriter.TRIANGLE_SIZE * t.triangleCount(), stl.limit());
+        Assertions.assertEquals(t.triangleCount(), stl.getInt(StlWriter.HEADER_SIZE));
+        for (var i = 0; i < t.triangleCount(); i++) {
+            var offset = StlWriter.HEADER_SIZE + 4 + StlWriter.TRIANGLE_SIZE * i;
+            Assertions.assertEquals((float) t.normalX(t.triangleFace(i)), stl.getFloat(offset));
+            Assertions.assertEquals((float) t.getZ(t.triangleVertex(i, 2)), stl.getFloat(offset + 44));
+        }
+    }
+
+    @Test
+    void TestPly() throws IOException {
+        Triangulation t = StandardPolyhedra.greatStellatedDodecahedron().triangulation();
+        ByteBuffer ply = export(t, PlyWriter::write);
+        var text = new String(ply.array(), StandardCharsets.US_ASCII);
+        var body = text.indexOf("end_header\n") + "end_header\n".length();
+        Assertions.assertTrue(text.startsWith("ply\nformat binary_little_endian 1.0\n"));
+        Assertions.assertTrue(text.contains("element vertex " + t.vertexCount() + "\n"));
+        Assertions.assertTrue(text.contains("element face " + t.triangleCount() + "\n"));
+        Assertions.assertEquals(body + 12 * t.vertexCount() + 13 * t.triangleCount(), ply.limit());
+        var last = body + 12 * t.vertexCount() + 13 * (t.triangleCount() - 1);
+        Assertions.assertEquals(3, ply.get(last));
+        Assertions.assertEquals(t.triangleVertex(t.triangleCount() - 1, 2), ply.getInt(last + 9));
+    }
+
+    @Test
+    void TestGlb() throws IOException {
+        Triangulation t = StandardPolyhedra.icosahedron().triangulation();
+        ByteBuffer glb = export(t, GltfWriter::writeGlb);
+        Assertions.assertEquals(0x46546C67, glb.getInt(0));
+        Assertions.assertEquals(2, glb.getInt(4));
+        Assertions.assertEquals(glb.limit(), glb.getInt(8));
+        var jsonLength = glb.getInt(12);
+        Assertions.assertEquals(0, jsonLength % 4);
+        var json = new String(glb.array(), 20, jsonLength, StandardCharsets.UTF_8);
+        Assertions.assertTrue(json.contains("\"count\":" + 3 * t.triangleCount()));
+        var bin = 20 + jsonLength;
+        Assertions.assertEquals(12 * (t.vertexCount() + t.triangleCount()), glb.getInt(bin));
+        Assertions.assertEquals(glb.limit(), bin + 8 + glb.getInt(bin));
+        Assertions.assertEquals((float) t.getY(1), glb.getFloat(bin + 8 + 16));
+    }
+
+    @Test
+    void TestGltf() throws IOException {
+        Polyhedron h = StandardPolyhedra.smallStellatedDodecahedron();
+        ByteBuffer glb = export(h.triangulation(), GltfWriter::writeGlb);
+        var gltf = new String(export(h.triangulation(), GltfWriter::writeGltf).array(), StandardCharsets.UTF_8);
+        var prefix = "data:application/octet-stream;base64,";
+        var start = gltf.indexOf(prefix) + prefix.length();
+        var buffer = Base64.getDecoder().decode(gltf.substring(start, gltf.indexOf('"', start)));
+        // the same buffer as the GLB's BIN chunk
+        var bin = glb.limit() - buffer.length;
+        Assertions.assertArrayEquals(Arrays.copyOfRange(glb.array(), bin, glb.limit()), buffer);
+
+        var file = Files.createTempFile("star", ".gltf");
+        try {
+            GltfWriter.writeGltf(h, file);
+            Assertions.assertEquals(gltf, Files.readString(file));
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
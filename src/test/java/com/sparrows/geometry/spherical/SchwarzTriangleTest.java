@@ -1,6 +1,11 @@
 package com.sparrows.geometry.spherical;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.sparrows.geometry.exception.AntipodalPoints;
 import com.sparrows.geometry.exception.DoesNotTileSphere;
+import com.sparrows.geometry.exception.IdenticalSphericalPoints;
 import com.sparrows.geometry.exception.InvalidSchwarzTriangle;
 import com.sparrows.geometry.maths.Rational;
 import com.sparrows.geometry.maths.exceptions.ZeroDenominator;
@@ -88,7 +93,7 @@ class SchwarzTriangleTest {
     }
 
     @Test
-    void TestFindAll() {
+    void TestFindAll() throws DoesNotTileSphere {
         var all = SchwarzTriangle.getAll();
         Assertions.assertEquals(44,all.size());
         Assertions.assertEquals(5, all.stream().filter(s -> s.getSymmetryGroup() == SchwarzTriangle.SymmetryGroup.TETRAHEDRAL).count());
@@ -99,4 +104,52 @@ class SchwarzTriangleTest {
             System.out.println(a + ": tiles=" + a.getTilingSize() + " density=" + a.getTilingDensity());
         }
     }
+
+    @Test
+    void TestTiling() throws DoesNotTileSphere, InvalidSchwarzTriangle, ZeroDenominator {
+        for (var s : SchwarzTriangle.getAll()) {
+            Assertions.assertEquals(s.getSymmetryGroupOrder(), s.getTilingSize(), s.toString());
+            Assertions.assertEquals(s.getTilingSize(), s.tiles().count(), s.toString());
+        }
+        var s = new SchwarzTriangle(new Rational(2),new Rational(2),new Rational(5,2));
+        Assertions.assertEquals(20, s.getTilingSize());
+        Assertions.assertEquals(20, s.tiles().count());
+
+        // a valid triangle whose reflections never close up
+        s = new SchwarzTriangle(new Rational(4,3),new Rational(3),new Rational(3));
+        Assertions.assertFalse(s.tilesSphere());
+        Assertions.assertThrows(DoesNotTileSphere.class, s::getTilingSize);
+        Assertions.assertThrows(DoesNotTileSphere.class, s::tiles);
+    }
+
+    @Test
+    void TestOrbit() throws InvalidSchwarzTriangle, ZeroDenominator, AntipodalPoints, IdenticalSphericalPoints {
+        var triangle = new SchwarzTriangle(new Rational(2),new Rational(3),new Rational(4)).triangle();
+        List<GreatCircle> mirrors = List.of(
+                new GreatCircle(triangle.getVertex(0), triangle.getVertex(1)),
+                new GreatCircle(triangle.getVertex(1), triangle.getVertex(2)),
+                new GreatCircle(triangle.getVertex(2), triangle.getVertex(0)));
+        var orbit = new ReflectionOrbit(triangle, mirrors);
+        List<ReflectionOrbit.Tile> tiles = orbit.stream().collect(Collectors.toList());
+        Assertions.assertEquals(48, tiles.size());
+        Assertions.assertEquals(0, tiles.get(0).getLength());
+        Assertions.assertTrue(tiles.get(0).getTriangle().getVertex(0).identical(triangle.getVertex(0)));
+
+        // applying the word to the seed gives the tile, and words never get shorter
+        var previous = 0;
+        for (var tile : tiles) {
+            var t = triangle;
+            for (var m : tile.getWord()) {
+                t = t.reflect(mirrors.get(m));
+            }
+            for (var v = 0; v < 3; v++) {
+                Assertions.assertTrue(t.getVertex(v).identical(tile.getTriangle().getVertex(v)));
+            }
+            Assertions.assertTrue(tile.getLength() >= previous);
+            previous = tile.getLength();
+        }
+
+        // the stream is lazy
+        Assertions.assertEquals(5, orbit.triangles().limit(5).count());
+    }
 }
@@ -0,0 +1,66 @@
+package com.sparrows.geometry.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import com.sparrows.geometry.maths.Maths;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class VertexIndexTest {
+    private static final double[] OFFSETS = {-1.5, -1.001, -0.999, -0.5, -0.001, 0, 0.001, 0.5, 0.999, 1.001, 1.5};
+
+    // the lowest index of an identical point, found by comparing with every point as welding used to
+    private static int scan(List<double[]> points, double[] p) {
+        for (var v = 0; v < points.size(); v++) {
+            double[] q = points.get(v);
+            if (Maths.equal(p[0], q[0]) && Maths.equal(p[1], q[1]) && Maths.equal(p[2], q[2])) {
+                return v;
+            }
+        }
+        return -1;
+    }
+
+    // points scattered within a couple of error margins of a cell corner, so they fall either side of it
+    private static List<double[]> around(double x, double y, double z) {
+        List<double[]> points = new ArrayList<>();
+        for (var dx : OFFSETS) {
+            for (var dy : OFFSETS) {
+                for (var dz : new double[] {-0.999, 0, 1.001}) {
+                    points.add(new double[] {x + dx * Maths.ERROR_MARGIN, y + dy * Maths.ERROR_MARGIN,
+                            z + dz * Maths.ERROR_MARGIN});
+                }
+            }
+        }
+        return points;
+    }
+
+    @Test
+    void TestWeldingAcrossCells() {
+        var random = new Random(1);
+        // corners of cells, whatever the cell size, and points away from them
+        double[][] centres = {{0, 0, 0}, {4e-6, -4e-6, 8e-6}, {1, -2, 3}, {-0.25, 0.5, 1e-6}, {1e3, 1e3, -1e3}};
+        for (var centre : centres) {
+            List<double[]> points = around(centre[0], centre[1], centre[2]);
+            Collections.shuffle(points, random);
+            var index = new VertexIndex(4);
+            List<double[]> welded = new ArrayList<>();
+            for (var p : points) {
+                var expected = scan(welded, p);
+                if (expected < 0) {
+                    expected = welded.size();
+                    welded.add(p);
+                }
+                Assertions.assertEquals(expected, index.findOrAdd(p[0], p[1], p[2]));
+            }
+            Assertions.assertEquals(welded.size(), index.size());
+            var shift = 0.3 * Maths.ERROR_MARGIN;
+            for (var p : around(centre[0] + shift, centre[1], centre[2] - shift)) {
+                Assertions.assertEquals(scan(welded, p), index.find(p[0], p[1], p[2]));
+            }
+        }
+    }
+}